@@ -6,10 +6,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.swmaestro.repl.gifthub.auth.dto.*;
 import org.swmaestro.repl.gifthub.auth.service.*;
-import org.swmaestro.repl.gifthub.util.JwtProvider;
 
 import java.io.IOException;
 import java.security.PrivateKey;
@@ -23,7 +24,6 @@ public class AuthController {
 	private final MemberService memberService;
 	private final AuthService authService;
 	private final RefreshTokenService refreshTokenService;
-	private final JwtProvider jwtProvider;
 	private final NaverService naverService;
 	private final KakaoService kakaoService;
 	private final GoogleService googleService;
@@ -45,7 +45,8 @@ public class AuthController {
 
 	@PostMapping("/refresh")
 	@Operation(summary = "Refresh Token을 이용한 New RefreshToken, New Access Token 발급 메서드", description = "Refresh Token을 이용하여 새로운 Refresh Token, Access Token을 발급 받기 위한 메서드입니다.")
-	public TokenDto reissueAccessToken(@RequestHeader("Authorization") String refreshToken) {
+	public TokenDto reissueAccessToken(@AuthenticationPrincipal UserDetails userDetails,
+			@RequestHeader("Authorization") String refreshToken) {
 		String newAccessToken = refreshTokenService.createNewAccessTokenByValidateRefreshToken(refreshToken);
 		String newRefreshToken = refreshTokenService.createNewRefreshTokenByValidateRefreshToken(refreshToken);
 
@@ -54,8 +55,7 @@ public class AuthController {
 				.refreshToken(newRefreshToken)
 				.build();
 
-		refreshToken = refreshToken.substring(7);
-		refreshTokenService.storeRefreshToken(tokenDto, jwtProvider.getUsername(refreshToken));
+		refreshTokenService.storeRefreshToken(tokenDto, userDetails.getUsername());
 
 		return tokenDto;
 	}
@@ -122,8 +122,7 @@ public class AuthController {
 
 	@PostMapping("/sign-out")
 	@Operation(summary = "로그아웃 메서드", description = "사용자가 로그아웃을 하기 위한 메서드입니다.")
-	public void signOut(HttpServletRequest request) {
-		String username = jwtProvider.getUsername(jwtProvider.resolveToken(request).substring(7));
-		authService.signOut(username);
+	public void signOut(@AuthenticationPrincipal UserDetails userDetails) {
+		authService.signOut(userDetails.getUsername());
 	}
 }
@@ -1,20 +1,25 @@
 package org.swmaestro.repl.gifthub.auth.controller;
 
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.swmaestro.repl.gifthub.auth.dto.DeviceTokenRequestDto;
+import org.swmaestro.repl.gifthub.auth.dto.DeviceTokenResponseDto;
 import org.swmaestro.repl.gifthub.auth.dto.MemberDeleteResponseDto;
 import org.swmaestro.repl.gifthub.auth.dto.MemberUpdateRequestDto;
 import org.swmaestro.repl.gifthub.auth.dto.MemberUpdateResponseDto;
+import org.swmaestro.repl.gifthub.auth.service.DeviceTokenService;
 import org.swmaestro.repl.gifthub.auth.service.MemberService;
-import org.swmaestro.repl.gifthub.util.JwtProvider;
+import org.swmaestro.repl.gifthub.security.CustomUserDetails;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -23,7 +28,7 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Users", description = "사용자 관련 API")
 public class UserController {
 	private final MemberService memberService;
-	private final JwtProvider jwtProvider;
+	private final DeviceTokenService deviceTokenService;
 
 	@DeleteMapping("/{userId}")
 	@Operation(summary = "User 삭제 메서드", description = "클라이언트에서 요청한 사용자 정보를 삭제(Soft-Delete)하기 위한 메서드입니다.")
@@ -33,10 +38,23 @@ public class UserController {
 
 	@PatchMapping("/{userId}")
 	@Operation(summary = "User 정보 수정 메서드", description = "클라이언트에서 요청한 사용자 정보를 수정하기 위한 메서드입니다.")
-	public MemberUpdateResponseDto updateMember(HttpServletRequest request, @PathVariable Long userId,
+	public MemberUpdateResponseDto updateMember(@AuthenticationPrincipal UserDetails userDetails, @PathVariable Long userId,
 			@RequestBody MemberUpdateRequestDto memberUpdateRequestDto) {
-		String username = jwtProvider.getUsername(jwtProvider.resolveToken(request).substring(7));
-		return memberService.update(username, userId, memberUpdateRequestDto);
+		return memberService.update(userDetails.getUsername(), userId, memberUpdateRequestDto);
+	}
+
+	@PostMapping("/device-tokens")
+	@Operation(summary = "기기 토큰 등록 메서드", description = "클라이언트에서 요청한 사용자의 푸시 알림 기기 토큰을 등록하기 위한 메서드입니다. 이미 등록된 토큰이면 요청한 사용자의 토큰으로 갱신합니다.")
+	public DeviceTokenResponseDto registerDeviceToken(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestBody DeviceTokenRequestDto deviceTokenRequestDto) {
+		return deviceTokenService.register(userDetails.getMemberId(), deviceTokenRequestDto);
+	}
+
+	@DeleteMapping("/device-tokens/{token}")
+	@Operation(summary = "기기 토큰 해제 메서드", description = "클라이언트에서 요청한 사용자의 푸시 알림 기기 토큰을 해제(삭제)하기 위한 메서드입니다.")
+	public DeviceTokenResponseDto unregisterDeviceToken(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@PathVariable String token) {
+		return deviceTokenService.unregister(userDetails.getMemberId(), token);
 	}
 
 }
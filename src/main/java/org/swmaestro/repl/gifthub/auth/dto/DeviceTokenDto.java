@@ -0,0 +1,22 @@
+package org.swmaestro.repl.gifthub.auth.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeviceTokenDto {
+	private Long memberId;
+	private String token;
+
+	/*
+	JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+	 */
+	public DeviceTokenDto(Long memberId, String token) {
+		this.memberId = memberId;
+		this.token = token;
+	}
+}
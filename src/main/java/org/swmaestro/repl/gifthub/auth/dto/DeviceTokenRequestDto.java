@@ -0,0 +1,23 @@
+package org.swmaestro.repl.gifthub.auth.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class DeviceTokenRequestDto {
+	private String token;
+
+	@Builder
+	public DeviceTokenRequestDto(String token) {
+		this.token = token;
+	}
+}
@@ -10,6 +10,9 @@ import org.springframework.data.annotation.CreatedDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+	@Index(name = "uk_device_token_token", columnList = "token", unique = true)
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DeviceToken {
@@ -17,22 +20,27 @@ public class DeviceToken {
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "member_id", nullable = false)
 	private Member member;
 
-	@Column(length = 100)
+	// 기기 하나에 한 행만 저장되도록 token에 unique 인덱스를 둔다(DeviceTokenRepository.upsert 참고).
+	@Column(length = 255, nullable = false)
 	private String token;
 
 	@CreatedDate
 	@Column(nullable = false)
 	private LocalDateTime createdAt;
 
+	// 마지막으로 등록(갱신)된 시각
+	private LocalDateTime updatedAt;
+
 	@Builder
-	public DeviceToken(Long id, Member member, String token, LocalDateTime createdAt) {
+	public DeviceToken(Long id, Member member, String token, LocalDateTime createdAt, LocalDateTime updatedAt) {
 		this.id = id;
 		this.member = member;
 		this.token = token;
 		this.createdAt = createdAt;
+		this.updatedAt = updatedAt;
 	}
-}
\ No newline at end of file
+}
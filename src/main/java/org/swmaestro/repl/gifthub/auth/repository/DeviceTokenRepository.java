@@ -1,7 +1,49 @@
 package org.swmaestro.repl.gifthub.auth.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.swmaestro.repl.gifthub.auth.dto.DeviceTokenDto;
 import org.swmaestro.repl.gifthub.auth.entity.DeviceToken;
 
+import jakarta.transaction.Transactional;
+
 public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long> {
+	@Query("select new org.swmaestro.repl.gifthub.auth.dto.DeviceTokenDto(d.member.id, d.token) "
+			+ "from DeviceToken d where d.member.id in :memberIds")
+	List<DeviceTokenDto> findAllByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+	/*
+	기기 토큰을 등록한다. 이미 등록된 토큰이면 회원과 등록 시각만 갱신한다.
+	token의 unique 인덱스를 이용해 조회 없이 한 문장(INSERT ... ON DUPLICATE KEY UPDATE)으로 처리하므로,
+	같은 기기가 동시에 여러 번 등록해도 한 행만 남는다.
+	갱신 값은 VALUES() 함수 대신 행 별칭(new)으로 참조한다(MySQL 8.0.19 이상).
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "insert into device_token (member_id, token, created_at, updated_at) "
+			+ "values (:memberId, :token, :now, :now) as new "
+			+ "on duplicate key update member_id = new.member_id, updated_at = new.updated_at",
+			nativeQuery = true)
+	int upsert(@Param("memberId") Long memberId, @Param("token") String token, @Param("now") LocalDateTime now);
+
+	@Transactional
+	@Modifying
+	@Query("delete from DeviceToken d where d.member.id = :memberId and d.token = :token")
+	int deleteByMemberIdAndToken(@Param("memberId") Long memberId, @Param("token") String token);
+
+	/*
+	발송 제공자가 유효하지 않다고 알린 토큰을 삭제한다.
+	알린 시각(reportedAt) 이후 다시 등록된 토큰은 유효해진 것이므로 삭제하지 않는다.
+	 */
+	@Transactional
+	@Modifying
+	@Query("delete from DeviceToken d where d.token in :tokens "
+			+ "and coalesce(d.updatedAt, d.createdAt) < :reportedAt")
+	int deleteInvalid(@Param("tokens") Collection<String> tokens, @Param("reportedAt") LocalDateTime reportedAt);
 }
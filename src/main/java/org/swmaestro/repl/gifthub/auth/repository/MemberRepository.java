@@ -1,10 +1,18 @@
 package org.swmaestro.repl.gifthub.auth.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.swmaestro.repl.gifthub.auth.entity.Member;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 	Member findByUsername(String username);
 
 	Member findByNickname(String nickname);
+
+	@Query("select m.id from Member m where m.deletedAt >= :deletedAt")
+	List<Long> findIdsByDeletedAtGreaterThanEqual(@Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -189,12 +189,14 @@ public class AppleService {
 					.nickname(name)
 					.build();
 
-				if (!memberService.isDuplicateUsername(member.getUsername())) {
-					memberRepository.save(member);
+				if (memberService.isDuplicateUsername(member.getUsername())) {
+					member = memberRepository.findByUsername(member.getUsername());
+				} else {
+					member = memberRepository.save(member);
 				}
 
 				return TokenDto.builder()
-					.accessToken(jwtProvider.generateToken(member.getUsername()))
+					.accessToken(jwtProvider.generateToken(member.getUsername(), member.getId()))
 					.refreshToken(jwtProvider.generateRefreshToken(member.getUsername()))
 					.build();
 			}
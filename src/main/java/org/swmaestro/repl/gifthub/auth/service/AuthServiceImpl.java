@@ -28,7 +28,7 @@ public class AuthServiceImpl implements AuthService {
 		if (!passwordEncoder.matches(loginDto.getPassword(), member.getPassword())) {
 			throw new BusinessException("비밀번호가 일치하지 않습니다.", ErrorCode.INVALID_INPUT_VALUE);
 		}
-		String accessToken = jwtProvider.generateToken(member.getUsername());
+		String accessToken = jwtProvider.generateToken(member.getUsername(), member.getId());
 		String refreshToken = jwtProvider.generateRefreshToken(member.getUsername());
 
 		TokenDto tokenDto = TokenDto.builder()
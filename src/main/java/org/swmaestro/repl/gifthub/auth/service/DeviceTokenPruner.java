@@ -0,0 +1,82 @@
+package org.swmaestro.repl.gifthub.auth.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.swmaestro.repl.gifthub.auth.repository.DeviceTokenRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유효하지 않은 기기 토큰 정리 작업
+ * 푸시 발송 스레드는 발송 제공자가 알린 유효하지 않은 토큰을 기록만 하고,
+ * 주기적으로 모인 토큰을 batch-size개씩 DELETE 한 번으로 삭제하여 발송 배치마다 DELETE가 실행되지 않도록 한다.
+ * 같은 토큰이 여러 번 알려져도 한 번만 삭제하며, 알린 이후 다시 등록된 토큰은 삭제하지 않는다.
+ * 토큰은 알린 시각별로 묶어 각자의 시각을 기준으로 삭제한다(한 번의 report 호출로 알린 토큰은 같은 묶음이다).
+ */
+@Slf4j
+@Component
+public class DeviceTokenPruner {
+	private final DeviceTokenRepository deviceTokenRepository;
+	private final MeterRegistry meterRegistry;
+	// 토큰별 처음 알린 시각
+	private final Map<String, LocalDateTime> reported = new ConcurrentHashMap<>();
+	private final int batchSize;
+
+	public DeviceTokenPruner(DeviceTokenRepository deviceTokenRepository, MeterRegistry meterRegistry,
+			@Value("${push.token-prune.batch-size:500}") int batchSize) {
+		this.deviceTokenRepository = deviceTokenRepository;
+		this.meterRegistry = meterRegistry;
+		this.batchSize = batchSize;
+		meterRegistry.gaugeMapSize("push.token_prune.pending", List.of(), reported);
+	}
+
+	public void report(Collection<String> tokens) {
+		report(tokens, LocalDateTime.now());
+	}
+
+	void report(Collection<String> tokens, LocalDateTime reportedAt) {
+		tokens.forEach(token -> reported.putIfAbsent(token, reportedAt));
+	}
+
+	@Scheduled(fixedDelayString = "${push.token-prune.interval-millis:10000}")
+	public void prune() {
+		if (reported.isEmpty()) {
+			return;
+		}
+		Map<LocalDateTime, List<String>> tokensByReportedAt = new TreeMap<>();
+		reported.forEach((token, reportedAt) ->
+				tokensByReportedAt.computeIfAbsent(reportedAt, key -> new ArrayList<>()).add(token));
+
+		tokensByReportedAt.forEach((reportedAt, tokens) -> {
+			for (int from = 0; from < tokens.size(); from += batchSize) {
+				delete(tokens.subList(from, Math.min(from + batchSize, tokens.size())), reportedAt);
+			}
+		});
+	}
+
+	/*
+	reportedAt에 알린 토큰 중 그 이후 다시 등록되지 않은 토큰을 삭제한다.
+	 */
+	private void delete(List<String> tokens, LocalDateTime reportedAt) {
+		try {
+			int deleted = deviceTokenRepository.deleteInvalid(tokens, reportedAt);
+			meterRegistry.counter("push.token_prune.deleted").increment(deleted);
+		} catch (RuntimeException e) {
+			// 남겨둔 토큰은 다음 실행에서 다시 삭제한다.
+			log.warn("유효하지 않은 기기 토큰 삭제 실패 - {}개", tokens.size(), e);
+			return;
+		}
+		// 그 사이 다른 시각으로 다시 기록된 토큰은 남긴다.
+		tokens.forEach(token -> reported.remove(token, reportedAt));
+	}
+}
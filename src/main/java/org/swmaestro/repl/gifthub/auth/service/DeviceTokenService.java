@@ -0,0 +1,55 @@
+package org.swmaestro.repl.gifthub.auth.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.swmaestro.repl.gifthub.auth.dto.DeviceTokenRequestDto;
+import org.swmaestro.repl.gifthub.auth.dto.DeviceTokenResponseDto;
+import org.swmaestro.repl.gifthub.auth.repository.DeviceTokenRepository;
+import org.swmaestro.repl.gifthub.exception.BusinessException;
+import org.swmaestro.repl.gifthub.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class DeviceTokenService {
+	private static final int MAX_TOKEN_LENGTH = 255;
+	private final DeviceTokenRepository deviceTokenRepository;
+
+	/*
+	기기 토큰 등록 메서드
+	같은 토큰이 이미 있으면 새로 저장하지 않고 요청한 회원의 토큰으로 갱신한다(기기의 로그인 계정이 바뀐 경우).
+	 */
+	public DeviceTokenResponseDto register(Long memberId, DeviceTokenRequestDto deviceTokenRequestDto) {
+		String token = validateToken(deviceTokenRequestDto.getToken());
+		deviceTokenRepository.upsert(memberId, token, LocalDateTime.now());
+
+		return DeviceTokenResponseDto.builder()
+				.token(token)
+				.build();
+	}
+
+	/*
+	기기 토큰 해제 메서드(로그아웃, 알림 수신 해제 등)
+	 */
+	public DeviceTokenResponseDto unregister(Long memberId, String token) {
+		if (deviceTokenRepository.deleteByMemberIdAndToken(memberId, validateToken(token)) == 0) {
+			throw new BusinessException("등록되지 않은 기기 토큰 입니다.", ErrorCode.NOT_FOUND_RESOURCE);
+		}
+
+		return DeviceTokenResponseDto.builder()
+				.token(token)
+				.build();
+	}
+
+	private String validateToken(String token) {
+		if (token == null || token.isBlank()) {
+			throw new BusinessException("기기 토큰을 입력해주세요.", ErrorCode.INVALID_INPUT_VALUE);
+		}
+		if (token.length() > MAX_TOKEN_LENGTH) {
+			throw new BusinessException("유효하지 않은 기기 토큰 입니다.", ErrorCode.INVALID_INPUT_VALUE);
+		}
+		return token;
+	}
+}
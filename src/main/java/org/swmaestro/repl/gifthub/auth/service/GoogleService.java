@@ -170,7 +170,7 @@ public class GoogleService {
 
 		memberRepository.save(member);
 
-		String accessToken = jwtProvider.generateToken(member.getUsername());
+		String accessToken = jwtProvider.generateToken(member.getUsername(), member.getId());
 		String refreshToken = jwtProvider.generateRefreshToken(member.getUsername());
 
 		TokenDto tokenDto = TokenDto.builder()
@@ -188,7 +188,7 @@ public class GoogleService {
 		if (member == null) {
 			throw new BusinessException("존재하지 않는 아이디입니다.", ErrorCode.INVALID_INPUT_VALUE);
 		}
-		String accessToken = jwtProvider.generateToken(member.getUsername());
+		String accessToken = jwtProvider.generateToken(member.getUsername(), member.getId());
 		String refreshToken = jwtProvider.generateRefreshToken(member.getUsername());
 
 		TokenDto tokenDto = TokenDto.builder()
@@ -169,7 +169,7 @@ public class KakaoService {
 
 		memberRepository.save(member);
 
-		String accessToken = jwtProvider.generateToken(member.getUsername());
+		String accessToken = jwtProvider.generateToken(member.getUsername(), member.getId());
 		String refreshToken = jwtProvider.generateRefreshToken(member.getUsername());
 
 		TokenDto tokenDto = TokenDto.builder()
@@ -187,7 +187,7 @@ public class KakaoService {
 		if (member == null) {
 			throw new BusinessException("존재하지 않는 아이디입니다.", ErrorCode.INVALID_INPUT_VALUE);
 		}
-		String accessToken = jwtProvider.generateToken(member.getUsername());
+		String accessToken = jwtProvider.generateToken(member.getUsername(), member.getId());
 		String refreshToken = jwtProvider.generateRefreshToken(member.getUsername());
 
 		TokenDto tokenDto = TokenDto.builder()
@@ -20,6 +20,8 @@ public interface MemberService {
 
 	Member read(String username);
 
+	Member getReference(Long id);
+
 	int count();
 
 	List<Member> list();
@@ -16,6 +16,7 @@ import org.swmaestro.repl.gifthub.auth.entity.Member;
 import org.swmaestro.repl.gifthub.auth.repository.MemberRepository;
 import org.swmaestro.repl.gifthub.exception.BusinessException;
 import org.swmaestro.repl.gifthub.exception.ErrorCode;
+import org.swmaestro.repl.gifthub.security.UserDetailsCache;
 import org.swmaestro.repl.gifthub.util.JwtProvider;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,7 @@ public class MemberServiceImpl implements MemberService {
 	private final PasswordEncoder passwordEncoder;
 	private final JwtProvider jwtProvider;
 	private final RefreshTokenService refreshTokenService;
+	private final UserDetailsCache userDetailsCache;
 
 	public Member passwordEncryption(Member member) {
 		return Member.builder()
@@ -50,7 +52,7 @@ public class MemberServiceImpl implements MemberService {
 
 		memberRepository.save(encodedMember);
 
-		String accessToken = jwtProvider.generateToken(encodedMember.getUsername());
+		String accessToken = jwtProvider.generateToken(encodedMember.getUsername(), encodedMember.getId());
 		String refreshToken = jwtProvider.generateRefreshToken(encodedMember.getUsername());
 
 		TokenDto tokenDto = TokenDto.builder()
@@ -92,6 +94,14 @@ public class MemberServiceImpl implements MemberService {
 		return member;
 	}
 
+	/*
+	 * 연관관계 설정용 Member 프록시를 반환한다(SELECT 쿼리가 실행되지 않음).
+	 */
+	@Override
+	public Member getReference(Long id) {
+		return memberRepository.getReferenceById(id);
+	}
+
 	@Override
 	public int count() {
 		return (int)memberRepository.count();
@@ -124,6 +134,7 @@ public class MemberServiceImpl implements MemberService {
 			member.setPassword(passwordEncoder.encode(memberUpdateRequestDto.getPassword()));
 		}
 		memberRepository.save(member);
+		userDetailsCache.invalidate(member.getUsername());
 		return MemberUpdateResponseDto.builder()
 				.id(member.getId())
 				.nickname(member.getNickname())
@@ -141,6 +152,8 @@ public class MemberServiceImpl implements MemberService {
 
 		member.setDeletedAt(LocalDateTime.now());
 		memberRepository.save(member);
+		userDetailsCache.invalidate(member.getUsername());
+		userDetailsCache.markDeleted(member.getId());
 
 		return MemberDeleteResponseDto.builder()
 				.id(id)
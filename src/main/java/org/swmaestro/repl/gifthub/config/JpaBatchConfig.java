@@ -0,0 +1,50 @@
+package org.swmaestro.repl.gifthub.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+public class JpaBatchConfig {
+	private static final String REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
+
+	/*
+	JDBC batch insert/update 설정
+	spring.jpa.properties.hibernate.* 로 직접 지정한 값이 있으면 그 값을 우선한다.
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchCustomizer(
+			@Value("${voucher.jdbc.batch-size:100}") int batchSize) {
+		return hibernateProperties -> {
+			hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+			hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+			hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+		};
+	}
+
+	/*
+	MySQL Connector/J는 rewriteBatchedStatements=true일 때만 batch를 하나의 다중 행 INSERT로 전송한다.
+	JDBC URL이나 spring.datasource.hikari.data-source-properties로 직접 지정한 값이 있으면 그 값을 우선한다.
+	 */
+	@Bean
+	public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource dataSource
+						&& dataSource.getJdbcUrl() != null
+						&& dataSource.getJdbcUrl().startsWith("jdbc:mysql:")
+						&& !dataSource.getJdbcUrl().contains(REWRITE_BATCHED_STATEMENTS)
+						&& !dataSource.getDataSourceProperties().containsKey(REWRITE_BATCHED_STATEMENTS)) {
+					dataSource.addDataSourceProperty(REWRITE_BATCHED_STATEMENTS, "true");
+				}
+				return bean;
+			}
+		};
+	}
+}
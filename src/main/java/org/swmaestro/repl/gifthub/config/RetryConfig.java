@@ -0,0 +1,51 @@
+package org.swmaestro.repl.gifthub.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.annotation.EnableRetry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableRetry
+public class RetryConfig {
+	/*
+	낙관적 락 충돌률 측정을 위한 리스너
+	optimistic_lock.attempts 대비 optimistic_lock.conflicts 비율이 충돌률이다.
+	 */
+	@Bean
+	public RetryListener optimisticLockRetryListener(MeterRegistry meterRegistry) {
+		return new RetryListener() {
+			@Override
+			public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+				meterRegistry.counter("optimistic_lock.attempts", "operation", operation(context)).increment();
+				return true;
+			}
+
+			@Override
+			public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+					Throwable throwable) {
+				if (throwable instanceof OptimisticLockingFailureException) {
+					meterRegistry.counter("optimistic_lock.conflicts", "operation", operation(context)).increment();
+				}
+			}
+
+			@Override
+			public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+					Throwable throwable) {
+				if (throwable instanceof OptimisticLockingFailureException) {
+					meterRegistry.counter("optimistic_lock.exhausted", "operation", operation(context)).increment();
+				}
+			}
+
+			private String operation(RetryContext context) {
+				Object name = context.getAttribute(RetryContext.NAME);
+				return name == null ? "unknown" : name.toString();
+			}
+		};
+	}
+}
@@ -12,7 +12,9 @@ public enum ErrorCode {
 	ACCESS_DENIED(403, "C003", "Access is Denied"),
 	NOT_FOUND_RESOURCE(404, "C004", "Not Found Resource"),
 	EXIST_RESOURCE(409, "C005", "Exist Resource"),
-	INTERNAL_SERVER_ERROR(500, "C006", "Internal Server Error");
+	INTERNAL_SERVER_ERROR(500, "C006", "Internal Server Error"),
+	CONCURRENT_MODIFICATION(409, "C007", "Concurrent Modification, Retry Request"),
+	IDEMPOTENT_REQUEST_IN_PROGRESS(409, "C008", "Request With Same Idempotency Key Is In Progress");
 
 	private final String code;
 	private final String message;
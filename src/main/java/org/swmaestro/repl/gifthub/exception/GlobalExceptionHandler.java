@@ -1,6 +1,7 @@
 package org.swmaestro.repl.gifthub.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,4 +17,12 @@ public class GlobalExceptionHandler {
 		final ErrorResponse response = ErrorResponse.of(errorCode);
 		return new ResponseEntity<>(response, HttpStatus.valueOf(errorCode.getStatus()));
 	}
+
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	protected ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+			final OptimisticLockingFailureException e) {
+		log.warn("handleOptimisticLockingFailureException", e);
+		final ErrorResponse response = ErrorResponse.of(ErrorCode.CONCURRENT_MODIFICATION);
+		return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+	}
 }
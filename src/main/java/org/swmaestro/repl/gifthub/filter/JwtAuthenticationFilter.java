@@ -1,5 +1,6 @@
 package org.swmaestro.repl.gifthub.filter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,10 +25,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 		String token = jwtProvider.resolveToken(request);
-		if (token != null && jwtProvider.validateToken(token)) {
-			token = token.substring(7);
-			Authentication auth = jwtProvider.getAuthentication(token);
-			SecurityContextHolder.getContext().setAuthentication(auth);
+		if (token != null) {
+			// 요청 당 한 번만 파싱하고, 컨트롤러는 SecurityContext의 인증 정보를 사용한다.
+			Claims claims = jwtProvider.resolveClaims(token);
+			if (claims != null) {
+				Authentication auth = jwtProvider.getAuthentication(claims);
+				if (auth != null) {
+					SecurityContextHolder.getContext().setAuthentication(auth);
+				}
+			}
 		}
 		filterChain.doFilter(request, response);
 	}
@@ -0,0 +1,67 @@
+package org.swmaestro.repl.gifthub.idempotency;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB(idempotency_entry 테이블)에 저장하여 모든 인스턴스가 공유하는 Idempotency-Key 저장소
+ * idempotency.store=database로 선택하며, 같은 키의 재시도가 다른 인스턴스로 가도 한 번만 처리된다.
+ * 키 선점은 primary key에 대한 INSERT IGNORE 한 번으로 처리하므로 동시 요청 중 하나만 성공한다.
+ * 각 키는 ttl-seconds 후 만료되며, 만료된 행은 선점 시와 purge-interval-millis마다 삭제된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "database")
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+	private final IdempotencyEntryRepository idempotencyEntryRepository;
+	private final long ttlSeconds;
+
+	public DatabaseIdempotencyStore(IdempotencyEntryRepository idempotencyEntryRepository,
+			@Value("${idempotency.ttl-seconds:86400}") long ttlSeconds) {
+		this.idempotencyEntryRepository = idempotencyEntryRepository;
+		this.ttlSeconds = ttlSeconds;
+	}
+
+	@Override
+	public IdempotencyRecord putIfAbsent(String key, IdempotencyRecord record) {
+		LocalDateTime now = LocalDateTime.now();
+		idempotencyEntryRepository.deleteIfExpired(key, now);
+		if (idempotencyEntryRepository.insertIfAbsent(key, record.requestHash(), record.responseBody(),
+				now.plusSeconds(ttlSeconds)) == 1) {
+			return null;
+		}
+		return idempotencyEntryRepository.findById(key)
+				.map(IdempotencyEntry::toRecord)
+				// 확인 직전에 삭제(실패 후 해제)된 경우에도 다른 요청이 선점한 것으로 보고 처리 중으로 응답한다.
+				.orElse(IdempotencyRecord.inProgress(record.requestHash()));
+	}
+
+	@Override
+	public void put(String key, IdempotencyRecord record) {
+		LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(ttlSeconds);
+		if (idempotencyEntryRepository.complete(key, record.responseBody(), expiresAt) == 0) {
+			idempotencyEntryRepository.insertIfAbsent(key, record.requestHash(), record.responseBody(), expiresAt);
+		}
+	}
+
+	@Override
+	public void remove(String key) {
+		idempotencyEntryRepository.deleteByIdempotencyKey(key);
+	}
+
+	@Scheduled(fixedDelayString = "${idempotency.purge-interval-millis:3600000}")
+	public void purgeExpired() {
+		try {
+			int purged = idempotencyEntryRepository.deleteAllExpired(LocalDateTime.now());
+			log.debug("만료된 Idempotency-Key {}건 삭제", purged);
+		} catch (RuntimeException e) {
+			log.warn("만료된 Idempotency-Key 삭제 실패", e);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package org.swmaestro.repl.gifthub.idempotency;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+DatabaseIdempotencyStore가 저장하는 (회원, 작업, Idempotency-Key)별 처리 결과
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_idempotency_entry_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyEntry {
+	// 예: 1:voucher.use:7c9e6679-7425-40de-944b-e07fc1f90ae7
+	@Id
+	@Column(length = 320)
+	private String idempotencyKey;
+
+	@Column(length = 32, nullable = false)
+	private String requestHash;
+
+	// 직렬화된 응답 본문, 처리 중이면 null
+	@Column(columnDefinition = "MEDIUMTEXT")
+	private String responseBody;
+
+	@Column(nullable = false)
+	private LocalDateTime expiresAt;
+
+	public IdempotencyRecord toRecord() {
+		return new IdempotencyRecord(requestHash, responseBody);
+	}
+}
@@ -0,0 +1,48 @@
+package org.swmaestro.repl.gifthub.idempotency;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.transaction.Transactional;
+
+public interface IdempotencyEntryRepository extends JpaRepository<IdempotencyEntry, String> {
+	/*
+	키가 없을 때만 저장한다. primary key로 동시 요청 중 하나만 저장되며, 반환값이 0이면 이미 있는 키이다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "insert ignore into idempotency_entry (idempotency_key, request_hash, response_body, expires_at) "
+			+ "values (:idempotencyKey, :requestHash, :responseBody, :expiresAt)",
+			nativeQuery = true)
+	int insertIfAbsent(@Param("idempotencyKey") String idempotencyKey, @Param("requestHash") String requestHash,
+			@Param("responseBody") String responseBody, @Param("expiresAt") LocalDateTime expiresAt);
+
+	@Transactional
+	@Modifying
+	@Query("update IdempotencyEntry e set e.responseBody = :responseBody, e.expiresAt = :expiresAt "
+			+ "where e.idempotencyKey = :idempotencyKey")
+	int complete(@Param("idempotencyKey") String idempotencyKey, @Param("responseBody") String responseBody,
+			@Param("expiresAt") LocalDateTime expiresAt);
+
+	@Transactional
+	@Modifying
+	@Query("delete from IdempotencyEntry e where e.idempotencyKey = :idempotencyKey")
+	int deleteByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
+	/*
+	키가 만료되었으면 삭제하여 같은 키를 새 요청으로 처리할 수 있게 한다.
+	 */
+	@Transactional
+	@Modifying
+	@Query("delete from IdempotencyEntry e where e.idempotencyKey = :idempotencyKey and e.expiresAt < :now")
+	int deleteIfExpired(@Param("idempotencyKey") String idempotencyKey, @Param("now") LocalDateTime now);
+
+	@Transactional
+	@Modifying
+	@Query("delete from IdempotencyEntry e where e.expiresAt < :now")
+	int deleteAllExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,17 @@
+package org.swmaestro.repl.gifthub.idempotency;
+
+/**
+ * Idempotency-Key 별로 저장되는 처리 결과
+ *
+ * @param requestHash  최초 요청 본문의 해시(같은 키로 다른 요청을 보내는 경우를 구분)
+ * @param responseBody 직렬화된 응답 본문, 처리 중이면 null
+ */
+public record IdempotencyRecord(String requestHash, String responseBody) {
+	public static IdempotencyRecord inProgress(String requestHash) {
+		return new IdempotencyRecord(requestHash, null);
+	}
+
+	public boolean isCompleted() {
+		return responseBody != null;
+	}
+}
@@ -0,0 +1,77 @@
+package org.swmaestro.repl.gifthub.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.swmaestro.repl.gifthub.exception.BusinessException;
+import org.swmaestro.repl.gifthub.exception.ErrorCode;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+	private static final int MAX_KEY_LENGTH = 255;
+	private final IdempotencyStore idempotencyStore;
+	private final ObjectMapper objectMapper;
+
+	/*
+	Idempotency-Key가 있으면 같은 회원/작업/키에 대해 action을 한 번만 실행하고, 이후 요청에는 저장된 응답을 그대로 반환한다.
+	키가 없으면 action을 그대로 실행한다.
+	action이 실패하면 키를 해제하여 클라이언트가 같은 키로 다시 시도할 수 있게 한다.
+	 */
+	public <T> T execute(String idempotencyKey, Long memberId, String operation, Object request,
+			Class<T> responseType, Supplier<T> action) {
+		if (idempotencyKey == null) {
+			return action.get();
+		}
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new BusinessException("유효하지 않은 Idempotency-Key 입니다.", ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		String key = memberId + ":" + operation + ":" + idempotencyKey;
+		String requestHash = DigestUtils.md5DigestAsHex(serialize(request).getBytes(StandardCharsets.UTF_8));
+
+		IdempotencyRecord existing = idempotencyStore.putIfAbsent(key, IdempotencyRecord.inProgress(requestHash));
+		if (existing != null) {
+			return replay(existing, requestHash, responseType);
+		}
+
+		T response;
+		try {
+			response = action.get();
+		} catch (RuntimeException e) {
+			idempotencyStore.remove(key);
+			throw e;
+		}
+		idempotencyStore.put(key, new IdempotencyRecord(requestHash, serialize(response)));
+		return response;
+	}
+
+	private <T> T replay(IdempotencyRecord existing, String requestHash, Class<T> responseType) {
+		if (!existing.requestHash().equals(requestHash)) {
+			throw new BusinessException("이미 다른 요청에 사용된 Idempotency-Key 입니다.", ErrorCode.INVALID_INPUT_VALUE);
+		}
+		if (!existing.isCompleted()) {
+			throw new BusinessException("같은 Idempotency-Key의 요청을 처리 중입니다.", ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+		}
+		try {
+			return objectMapper.readValue(existing.responseBody(), responseType);
+		} catch (JsonProcessingException e) {
+			throw new BusinessException("저장된 응답을 읽을 수 없습니다.", ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	private String serialize(Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			throw new BusinessException("요청을 직렬화할 수 없습니다.", ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package org.swmaestro.repl.gifthub.idempotency;
+
+/**
+ * Idempotency-Key 처리 결과 저장소
+ * idempotency.store 값으로 구현을 선택한다. 기본값 memory는 인스턴스 메모리(MemoryIdempotencyStore)이며,
+ * 여러 인스턴스가 결과를 공유해야 하면 database(DatabaseIdempotencyStore)를 사용한다.
+ * 모든 구현은 일정 시간이 지난 키를 스스로 만료시켜야 한다.
+ */
+public interface IdempotencyStore {
+	/**
+	 * 키가 없으면 record를 저장하고 null을 반환하며, 이미 있으면 저장된 값을 반환한다.
+	 * 같은 키에 대한 동시 호출 중 하나만 null을 받아야 한다.
+	 */
+	IdempotencyRecord putIfAbsent(String key, IdempotencyRecord record);
+
+	void put(String key, IdempotencyRecord record);
+
+	void remove(String key);
+}
@@ -0,0 +1,44 @@
+package org.swmaestro.repl.gifthub.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 크기와 TTL이 제한된 인스턴스 메모리 Idempotency-Key 저장소
+ * 인스턴스 간에 공유되지 않으므로 같은 키의 재시도가 다른 인스턴스로 가면 중복 처리를 막지 못한다.
+ * 여러 인스턴스로 운영하면 idempotency.store=database(DatabaseIdempotencyStore)를 사용해야 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryIdempotencyStore implements IdempotencyStore {
+	private final Cache<String, IdempotencyRecord> records;
+
+	public MemoryIdempotencyStore(@Value("${idempotency.maximum-size:10000}") long maximumSize,
+			@Value("${idempotency.ttl-seconds:86400}") long ttlSeconds) {
+		this.records = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.build();
+	}
+
+	@Override
+	public IdempotencyRecord putIfAbsent(String key, IdempotencyRecord record) {
+		return records.asMap().putIfAbsent(key, record);
+	}
+
+	@Override
+	public void put(String key, IdempotencyRecord record) {
+		records.put(key, record);
+	}
+
+	@Override
+	public void remove(String key) {
+		records.invalidate(key);
+	}
+}
@@ -0,0 +1,64 @@
+package org.swmaestro.repl.gifthub.notification.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationCountResponseDto;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationIdsRequestDto;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationPageResponseDto;
+import org.swmaestro.repl.gifthub.notification.service.NotificationService;
+import org.swmaestro.repl.gifthub.notification.service.NotificationStreamRegistry;
+import org.swmaestro.repl.gifthub.security.CustomUserDetails;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+@Tag(name = "Notifications", description = "알림 관련 API")
+public class NotificationController {
+	private final NotificationService notificationService;
+	private final NotificationStreamRegistry notificationStreamRegistry;
+
+	@GetMapping
+	@Operation(summary = "Notification 목록 조회 메서드", description = "클라이언트에서 요청한 사용자의 알림 목록을 최신순으로 커서 기반 페이지 단위로 조회하기 위한 메서드입니다.")
+	public NotificationPageResponseDto listNotification(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+		return notificationService.list(userDetails.getMemberId(), cursor, size);
+	}
+
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "Notification 실시간 구독 메서드", description = "클라이언트에서 요청한 사용자에게 새 알림을 Server-Sent Events(notification 이벤트)로 전달하기 위한 메서드입니다. 연결 유지를 위해 주기적으로 heartbeat 주석을 보냅니다.")
+	public SseEmitter streamNotification(@AuthenticationPrincipal CustomUserDetails userDetails) {
+		return notificationStreamRegistry.subscribe(userDetails.getMemberId());
+	}
+
+	@GetMapping("/unread-count")
+	@Operation(summary = "읽지 않은 Notification 수 조회 메서드", description = "클라이언트에서 요청한 사용자의 읽지 않은 알림 수를 조회하기 위한 메서드입니다.")
+	public NotificationCountResponseDto countUnreadNotification(
+			@AuthenticationPrincipal CustomUserDetails userDetails) {
+		return notificationService.countUnread(userDetails.getMemberId());
+	}
+
+	@PostMapping("/read")
+	@Operation(summary = "Notification 일괄 읽음 처리 메서드", description = "클라이언트에서 요청한 여러 알림을 한 번에 읽음 처리하기 위한 메서드입니다. 응답으로 새로 읽음 처리된 알림 수를 반환합니다.")
+	public NotificationCountResponseDto readNotifications(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestBody NotificationIdsRequestDto notificationIdsRequestDto) {
+		return notificationService.read(userDetails.getMemberId(), notificationIdsRequestDto);
+	}
+
+	@PostMapping("/delete")
+	@Operation(summary = "Notification 일괄 삭제 메서드", description = "클라이언트에서 요청한 여러 알림을 한 번에 삭제(Soft-Delete)하기 위한 메서드입니다. 응답으로 삭제된 알림 수를 반환합니다.")
+	public NotificationCountResponseDto deleteNotifications(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestBody NotificationIdsRequestDto notificationIdsRequestDto) {
+		return notificationService.delete(userDetails.getMemberId(), notificationIdsRequestDto);
+	}
+}
@@ -0,0 +1,23 @@
+package org.swmaestro.repl.gifthub.notification.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class NotificationCountResponseDto {
+	private long count;
+
+	@Builder
+	public NotificationCountResponseDto(long count) {
+		this.count = count;
+	}
+}
@@ -0,0 +1,30 @@
+package org.swmaestro.repl.gifthub.notification.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class NotificationPageResponseDto {
+	private List<NotificationReadResponseDto> notifications;
+	private String nextCursor;
+	private boolean hasNext;
+
+	@Builder
+	public NotificationPageResponseDto(List<NotificationReadResponseDto> notifications, String nextCursor,
+		boolean hasNext) {
+		this.notifications = notifications;
+		this.nextCursor = nextCursor;
+		this.hasNext = hasNext;
+	}
+}
@@ -0,0 +1,28 @@
+package org.swmaestro.repl.gifthub.notification.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/*
+보관 기간이 지나 삭제할 알림 정보
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationPurgeTargetDto {
+	private Long id;
+	private Long receiverId;
+	// 읽지 않은(삭제되지도 않은) 알림 여부, 읽지 않은 알림 수 보정에 사용
+	private boolean unread;
+
+	/*
+	JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+	 */
+	public NotificationPurgeTargetDto(Long id, Long receiverId, boolean unread) {
+		this.id = id;
+		this.receiverId = receiverId;
+		this.unread = unread;
+	}
+}
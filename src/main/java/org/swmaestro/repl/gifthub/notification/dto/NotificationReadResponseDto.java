@@ -0,0 +1,48 @@
+package org.swmaestro.repl.gifthub.notification.dto;
+
+import java.time.LocalDateTime;
+
+import org.swmaestro.repl.gifthub.notification.NotificationType;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class NotificationReadResponseDto {
+	private Long id;
+	private Long voucherId;
+	private NotificationType type;
+	private String message;
+	private String notifiedDate;
+	private boolean read;
+	/*
+	커서 계산에만 사용하는 생성 시각(응답 본문에는 notified_date 문자열로 포함)
+	 */
+	@JsonIgnore
+	private LocalDateTime createdAt;
+
+	/*
+	JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+	 */
+	@Builder
+	public NotificationReadResponseDto(Long id, Long voucherId, NotificationType type, String message,
+		LocalDateTime createdAt, LocalDateTime readAt) {
+		this.id = id;
+		this.voucherId = voucherId;
+		this.type = type;
+		this.message = message;
+		this.notifiedDate = createdAt.toString();
+		this.read = readAt != null;
+		this.createdAt = createdAt;
+	}
+}
@@ -0,0 +1,30 @@
+package org.swmaestro.repl.gifthub.notification.dto;
+
+import java.time.LocalDateTime;
+
+import org.swmaestro.repl.gifthub.notification.NotificationType;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/*
+실시간 알림(SSE) 전달을 위해 다른 인스턴스에서 생성된 알림을 조회할 때 사용하는 수신자 id 포함 알림 정보
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationStreamDto {
+	private Long receiverId;
+	private NotificationReadResponseDto notification;
+
+	/*
+	JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+	 */
+	public NotificationStreamDto(Long receiverId, Long id, Long voucherId, NotificationType type, String message,
+		LocalDateTime createdAt, LocalDateTime readAt) {
+		this.receiverId = receiverId;
+		this.notification = new NotificationReadResponseDto(id, voucherId, type, message, createdAt, readAt);
+	}
+}
@@ -0,0 +1,27 @@
+package org.swmaestro.repl.gifthub.notification.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/*
+푸시 발송 대기 중인 알림 정보
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingNotificationDto {
+	private Long id;
+	private Long receiverId;
+	private String message;
+
+	/*
+	JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+	 */
+	public PendingNotificationDto(Long id, Long receiverId, String message) {
+		this.id = id;
+		this.receiverId = receiverId;
+		this.message = message;
+	}
+}
@@ -9,29 +9,41 @@ import org.swmaestro.repl.gifthub.vouchers.entity.Voucher;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_notification_sent_at", columnList = "sent_at, send_after"),
+	@Index(name = "idx_notification_receiver_id_created_at", columnList = "receiver_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification {
+	/*
+	만료 알림을 JDBC batch insert로 생성할 수 있도록 pooled 시퀀스를 사용한다(MySQL에서는 notification_seq 테이블로 에뮬레이션).
+	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+	@SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 100)
 	private Long id;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "receiver_id", nullable = false)
 	private Member receiver;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "voucher_id", nullable = false)
 	private Voucher voucher;
 
@@ -47,9 +59,18 @@ public class Notification {
 
 	private LocalDateTime deletedAt;
 
+	// 읽은 시각, null이면 읽지 않은 알림
+	private LocalDateTime readAt;
+
+	// 푸시 발송 시각, null이면 발송 대기 중
+	private LocalDateTime sentAt;
+
+	// 푸시 발송 가능 시각, 이 시각 이후에 발송한다(null이면 바로 발송)
+	private LocalDateTime sendAfter;
+
 	@Builder
 	public Notification(Long id, Member receiver, Voucher voucher, NotificationType type, String message,
-		LocalDateTime createdAt, LocalDateTime deletedAt) {
+		LocalDateTime createdAt, LocalDateTime deletedAt, LocalDateTime sendAfter) {
 		this.id = id;
 		this.receiver = receiver;
 		this.voucher = voucher;
@@ -57,5 +78,6 @@ public class Notification {
 		this.message = message;
 		this.createdAt = createdAt;
 		this.deletedAt = deletedAt;
+		this.sendAfter = sendAfter;
 	}
 }
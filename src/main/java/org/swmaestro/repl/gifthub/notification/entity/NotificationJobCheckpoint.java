@@ -0,0 +1,50 @@
+package org.swmaestro.repl.gifthub.notification.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+증분 알림 생성 작업이 마지막으로 처리한 위치
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationJobCheckpoint {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// 예: RECOMMENDATION
+	@Column(length = 50, nullable = false, unique = true)
+	private String jobName;
+
+	// 마지막으로 처리한 원본 데이터(예: 기프티콘 사용 내역)의 id
+	@Column(nullable = false)
+	private Long lastProcessedId;
+
+	@Column(nullable = false)
+	private LocalDateTime processedAt;
+
+	@Version
+	private Long version;
+
+	@Builder
+	public NotificationJobCheckpoint(Long id, String jobName, Long lastProcessedId, LocalDateTime processedAt) {
+		this.id = id;
+		this.jobName = jobName;
+		this.lastProcessedId = lastProcessedId;
+		this.processedAt = processedAt;
+	}
+}
@@ -0,0 +1,47 @@
+package org.swmaestro.repl.gifthub.notification.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+(알림 종류, 알림 기준, 날짜, id 샤드)별로 알림을 보낸 대상 id의 하위 비트를 담은 직렬화된 Roaring bitmap
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationSentBitmap {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// 예: EXPIRATION:D-7:2023-06-15:12 (id >>> 16이 12인 기프티콘)
+	@Column(length = 50, nullable = false, unique = true)
+	private String bitmapKey;
+
+	@Column(nullable = false)
+	private LocalDate targetDate;
+
+	@Column(columnDefinition = "MEDIUMBLOB", nullable = false)
+	private byte[] bitmap;
+
+	@Version
+	private Long version;
+
+	@Builder
+	public NotificationSentBitmap(Long id, String bitmapKey, LocalDate targetDate, byte[] bitmap) {
+		this.id = id;
+		this.bitmapKey = bitmapKey;
+		this.targetDate = targetDate;
+		this.bitmap = bitmap;
+	}
+}
@@ -0,0 +1,44 @@
+package org.swmaestro.repl.gifthub.notification.push;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬/테스트 환경용 푸시 발송 구현
+ * 실제로 발송하지 않고 발송 요청 수만 기록한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "push.sender.type", havingValue = "fake", matchIfMissing = true)
+public class FakePushSender implements PushSender {
+	private final AtomicLong sentMessages = new AtomicLong();
+	private final AtomicLong sentTokens = new AtomicLong();
+	@Value("${push.sender.max-batch-size:500}")
+	private int maxBatchSize;
+
+	@Override
+	public int maxBatchSize() {
+		return maxBatchSize;
+	}
+
+	@Override
+	public PushSendResult send(PushMessage message) {
+		sentMessages.incrementAndGet();
+		sentTokens.addAndGet(message.tokens().size());
+		log.debug("푸시 발송(fake) - {}개 기기: {}", message.tokens().size(), message.body());
+		return PushSendResult.success();
+	}
+
+	public long getSentMessages() {
+		return sentMessages.get();
+	}
+
+	public long getSentTokens() {
+		return sentTokens.get();
+	}
+}
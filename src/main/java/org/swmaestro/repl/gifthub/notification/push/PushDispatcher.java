@@ -0,0 +1,192 @@
+package org.swmaestro.repl.gifthub.notification.push;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.swmaestro.repl.gifthub.notification.service.NotificationService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 푸시 발송 워커 풀
+ * 웹 요청 스레드와 분리된 고정 크기 스레드(push.dispatch.concurrency)에서 발송하며,
+ * 대기 중인 발송 작업이 push.dispatch.queue-capacity개를 넘으면 submit을 호출한 스레드를 대기시켜(backpressure)
+ * 알림을 읽어오는 속도를 발송 속도에 맞춘다.
+ * 일시적인 실패는 지터(jitter)가 포함된 지수 백오프로 재시도한다.
+ * 재시도 후에도 어느 기기로도 보내지 못한 알림과, 종료 시 발송하지 못한 알림은 선점을 해제하여 다음 실행에서 다시 발송한다.
+ * 종료 시에도 선점을 해제할 수 있도록 NotificationService를 직접 의존하여 DB 관련 빈보다 먼저 종료되게 한다.
+ */
+@Slf4j
+@Component
+public class PushDispatcher {
+	private final PushSender pushSender;
+	private final NotificationService notificationService;
+	private final MeterRegistry meterRegistry;
+	private final ExecutorService executor;
+	private final Semaphore pending;
+	private final AtomicInteger queued = new AtomicInteger();
+	private final RetryTemplate retryTemplate;
+
+	public PushDispatcher(PushSender pushSender, NotificationService notificationService, MeterRegistry meterRegistry,
+			@Value("${push.dispatch.concurrency:4}") int concurrency,
+			@Value("${push.dispatch.queue-capacity:1000}") int queueCapacity,
+			@Value("${push.dispatch.max-attempts:3}") int maxAttempts,
+			@Value("${push.dispatch.backoff-millis:200}") long backoffMillis,
+			@Value("${push.dispatch.max-backoff-millis:5000}") long maxBackoffMillis) {
+		this.pushSender = pushSender;
+		this.notificationService = notificationService;
+		this.meterRegistry = meterRegistry;
+		this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(), new CustomizableThreadFactory("push-dispatch-"));
+		this.pending = new Semaphore(queueCapacity);
+		this.retryTemplate = RetryTemplate.builder()
+				.maxAttempts(maxAttempts)
+				.exponentialBackoff(backoffMillis, 2, maxBackoffMillis, true)
+				.retryOn(RuntimeException.class)
+				.build();
+		meterRegistry.gauge("push.dispatch.queued", queued);
+	}
+
+	public int maxBatchSize() {
+		return pushSender.maxBatchSize();
+	}
+
+	/*
+	발송 작업 등록 메서드
+	대기열이 가득 차 있으면 자리가 날 때까지 호출한 스레드가 대기한다.
+	invalidTokenHandler는 발송 스레드에서 유효하지 않은 토큰 목록과 함께 호출된다.
+	 */
+	public void submit(PushMessage message, Consumer<List<String>> invalidTokenHandler) throws InterruptedException {
+		pending.acquire();
+		queued.incrementAndGet();
+		try {
+			executor.execute(new DispatchTask(message, invalidTokenHandler));
+		} catch (RuntimeException e) {
+			queued.decrementAndGet();
+			pending.release();
+			throw e;
+		}
+	}
+
+	void dispatch(PushMessage message, Consumer<List<String>> invalidTokenHandler) {
+		List<String> invalidTokens = new ArrayList<>();
+		List<String> remaining = new ArrayList<>(message.tokens());
+		try {
+			retryTemplate.execute(context -> {
+				PushSendResult result = pushSender.send(new PushMessage(message.body(), List.copyOf(remaining)));
+				invalidTokens.addAll(result.invalidTokens());
+				remaining.retainAll(new HashSet<>(result.failedTokens()));
+				if (!remaining.isEmpty()) {
+					throw new IllegalStateException(remaining.size() + "개 기기 발송 실패");
+				}
+				return null;
+			});
+			meterRegistry.counter("push.dispatch.sent").increment(message.tokens().size() - invalidTokens.size());
+		} catch (RuntimeException e) {
+			log.warn("푸시 발송 실패 - {}개 기기", remaining.size(), e);
+			meterRegistry.counter("push.dispatch.failed").increment(remaining.size());
+			meterRegistry.counter("push.dispatch.sent")
+					.increment(message.tokens().size() - invalidTokens.size() - remaining.size());
+			release(undelivered(message, invalidTokens, remaining));
+		}
+		if (!invalidTokens.isEmpty()) {
+			meterRegistry.counter("push.dispatch.invalid_tokens").increment(invalidTokens.size());
+			invalidTokenHandler.accept(invalidTokens);
+		}
+	}
+
+	/*
+	어느 기기로도 보내지 못했고, 재시도할 수 있는(유효하지 않은 토큰이 아닌) 기기가 남은 알림 id
+	 */
+	static List<Long> undelivered(PushMessage message, List<String> invalidTokens, List<String> failedTokens) {
+		Set<String> invalid = new HashSet<>(invalidTokens);
+		Set<String> failed = new HashSet<>(failedTokens);
+		List<Long> ids = new ArrayList<>();
+		for (Map.Entry<Long, List<String>> entry : message.notificationTokens().entrySet()) {
+			boolean delivered = entry.getValue().stream()
+					.anyMatch(token -> !invalid.contains(token) && !failed.contains(token));
+			if (!delivered && entry.getValue().stream().anyMatch(failed::contains)) {
+				ids.add(entry.getKey());
+			}
+		}
+		return ids;
+	}
+
+	private void release(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		// 종료 중 중단된 스레드도 DB 커넥션을 얻을 수 있도록 인터럽트 상태를 잠시 지운다.
+		boolean interrupted = Thread.interrupted();
+		try {
+			notificationService.releaseUnsent(ids);
+			meterRegistry.counter("push.dispatch.released").increment(ids.size());
+		} catch (RuntimeException e) {
+			log.error("발송하지 못한 알림 선점 해제 실패 - {}건", ids.size(), e);
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/*
+	종료 대기 시간이 지나면 실행 중인 발송을 중단하고(재시도 대기 중인 발송은 실패로 끝나 선점이 해제된다),
+	시작하지 못한 발송 작업의 알림은 모두 선점을 해제한다.
+	 */
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		executor.shutdown();
+		if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+			List<Long> ids = new ArrayList<>();
+			for (Runnable task : executor.shutdownNow()) {
+				if (task instanceof DispatchTask dispatchTask) {
+					ids.addAll(dispatchTask.message().notificationTokens().keySet());
+				}
+			}
+			release(ids);
+			// 중단된 발송이 선점을 해제할 때까지 기다린다.
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+		}
+	}
+
+	private final class DispatchTask implements Runnable {
+		private final PushMessage message;
+		private final Consumer<List<String>> invalidTokenHandler;
+
+		DispatchTask(PushMessage message, Consumer<List<String>> invalidTokenHandler) {
+			this.message = message;
+			this.invalidTokenHandler = invalidTokenHandler;
+		}
+
+		PushMessage message() {
+			return message;
+		}
+
+		@Override
+		public void run() {
+			try {
+				dispatch(message, invalidTokenHandler);
+			} finally {
+				queued.decrementAndGet();
+				pending.release();
+			}
+		}
+	}
+}
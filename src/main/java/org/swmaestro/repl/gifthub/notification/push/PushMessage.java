@@ -0,0 +1,17 @@
+package org.swmaestro.repl.gifthub.notification.push;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 같은 내용을 여러 기기 토큰으로 보내는 multicast 푸시 메시지
+ *
+ * @param body               알림 내용
+ * @param tokens             수신 기기 토큰(PushSender.maxBatchSize() 이하)
+ * @param notificationTokens 이 메시지로 발송하는 알림 id별 수신 기기 토큰, 발송하지 못한 알림의 선점 해제에 사용한다.
+ */
+public record PushMessage(String body, List<String> tokens, Map<Long, List<String>> notificationTokens) {
+	public PushMessage(String body, List<String> tokens) {
+		this(body, tokens, Map.of());
+	}
+}
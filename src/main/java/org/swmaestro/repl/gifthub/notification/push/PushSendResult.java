@@ -0,0 +1,15 @@
+package org.swmaestro.repl.gifthub.notification.push;
+
+import java.util.List;
+
+/**
+ * multicast 발송 결과
+ *
+ * @param invalidTokens 더 이상 유효하지 않아 삭제해야 하는 토큰
+ * @param failedTokens  일시적인 오류로 실패하여 재시도할 토큰
+ */
+public record PushSendResult(List<String> invalidTokens, List<String> failedTokens) {
+	public static PushSendResult success() {
+		return new PushSendResult(List.of(), List.of());
+	}
+}
@@ -0,0 +1,17 @@
+package org.swmaestro.repl.gifthub.notification.push;
+
+/**
+ * 푸시 발송 제공자(FCM, APNs 등) 연동 인터페이스
+ * push.sender.type 값으로 구현을 선택하며, 기본값은 실제로 발송하지 않는 FakePushSender이다.
+ */
+public interface PushSender {
+	/**
+	 * 한 번의 multicast 요청으로 보낼 수 있는 최대 토큰 수
+	 */
+	int maxBatchSize();
+
+	/**
+	 * 메시지를 발송한다. 요청 자체가 실패하면 예외를 던지고, 토큰 단위 실패는 결과로 반환한다.
+	 */
+	PushSendResult send(PushMessage message);
+}
@@ -0,0 +1,10 @@
+package org.swmaestro.repl.gifthub.notification.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.swmaestro.repl.gifthub.notification.entity.NotificationJobCheckpoint;
+
+public interface NotificationJobCheckpointRepository extends JpaRepository<NotificationJobCheckpoint, Long> {
+	Optional<NotificationJobCheckpoint> findByJobName(String jobName);
+}
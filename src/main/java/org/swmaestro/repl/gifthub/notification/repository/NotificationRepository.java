@@ -1,7 +1,126 @@
 package org.swmaestro.repl.gifthub.notification.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationPurgeTargetDto;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationReadResponseDto;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationStreamDto;
+import org.swmaestro.repl.gifthub.notification.dto.PendingNotificationDto;
 import org.swmaestro.repl.gifthub.notification.entity.Notification;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
+	/*
+	발송 가능 시각(sendAfter)이 지난 발송 대기 알림 id를 id 순으로 최대 size개 잠그고 조회한다.
+	다른 인스턴스가 이미 잠근 행은 건너뛰므로(SKIP LOCKED), 여러 인스턴스가 동시에 조회해도 서로 다른 알림을 선점한다.
+	잠금은 호출한 트랜잭션이 끝날 때까지 유지된다.
+	 */
+	@Query(value = "select n.id from notification n where n.sent_at is null and n.deleted_at is null "
+			+ "and (n.send_after is null or n.send_after <= :now) "
+			+ "order by n.id limit :size for update skip locked",
+			nativeQuery = true)
+	List<Long> lockPendingIds(@Param("now") LocalDateTime now, @Param("size") int size);
+
+	@Query("select new org.swmaestro.repl.gifthub.notification.dto.PendingNotificationDto("
+			+ "n.id, n.receiver.id, n.message) "
+			+ "from Notification n where n.id in :ids "
+			+ "order by n.id")
+	List<PendingNotificationDto> findPendingByIdIn(@Param("ids") Collection<Long> ids);
+
+	/*
+	발송 대기 중인 알림을 발송 처리한다. 반환값은 이번 호출로 선점한 알림 수이다.
+	 */
+	@Modifying
+	@Query("update Notification n set n.sentAt = :sentAt where n.id in :ids and n.sentAt is null")
+	int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+	/*
+	선점했지만 발송하지 못한 알림을 다시 발송 대기 상태로 돌린다.
+	 */
+	@Modifying
+	@Query("update Notification n set n.sentAt = null where n.id in :ids")
+	int releaseSent(@Param("ids") Collection<Long> ids);
+
+	/*
+	(createdAt, id) 기준 최신순 keyset 페이지네이션 - 첫 페이지
+	 */
+	@Query("select new org.swmaestro.repl.gifthub.notification.dto.NotificationReadResponseDto("
+			+ "n.id, n.voucher.id, n.type, n.message, n.createdAt, n.readAt) "
+			+ "from Notification n where n.receiver.id = :receiverId and n.deletedAt is null "
+			+ "order by n.createdAt desc, n.id desc")
+	List<NotificationReadResponseDto> findPageByReceiverId(@Param("receiverId") Long receiverId, Pageable pageable);
+
+	/*
+	(createdAt, id) 기준 최신순 keyset 페이지네이션 - 커서 이후 페이지
+	 */
+	@Query("select new org.swmaestro.repl.gifthub.notification.dto.NotificationReadResponseDto("
+			+ "n.id, n.voucher.id, n.type, n.message, n.createdAt, n.readAt) "
+			+ "from Notification n where n.receiver.id = :receiverId and n.deletedAt is null "
+			+ "and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id)) "
+			+ "order by n.createdAt desc, n.id desc")
+	List<NotificationReadResponseDto> findPageByReceiverIdBefore(@Param("receiverId") Long receiverId,
+			@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+	/*
+	수신자들에게 createdAt 이후 생성된 알림을 조회한다. 실시간 알림 스트림의 인스턴스 간 전달에 사용한다.
+	 */
+	@Query("select new org.swmaestro.repl.gifthub.notification.dto.NotificationStreamDto("
+			+ "n.receiver.id, n.id, n.voucher.id, n.type, n.message, n.createdAt, n.readAt) "
+			+ "from Notification n where n.receiver.id in :receiverIds and n.createdAt >= :createdAt "
+			+ "and n.deletedAt is null "
+			+ "order by n.createdAt, n.id")
+	List<NotificationStreamDto> findCreatedByReceiverIdInSince(@Param("receiverIds") Collection<Long> receiverIds,
+			@Param("createdAt") LocalDateTime createdAt);
+
+	long countByReceiverIdAndReadAtIsNullAndDeletedAtIsNull(Long receiverId);
+
+	/*
+	읽지 않은 알림을 읽음 처리한다. 반환값은 새로 읽음 처리된 알림 수이다.
+	 */
+	@Modifying
+	@Query("update Notification n set n.readAt = :now "
+			+ "where n.receiver.id = :receiverId and n.id in :ids and n.readAt is null and n.deletedAt is null")
+	int markRead(@Param("receiverId") Long receiverId, @Param("ids") Collection<Long> ids,
+			@Param("now") LocalDateTime now);
+
+	/*
+	읽지 않은 알림을 삭제(Soft-Delete)한다. 반환값은 삭제된 읽지 않은 알림 수이다.
+	 */
+	@Modifying
+	@Query("update Notification n set n.deletedAt = :now "
+			+ "where n.receiver.id = :receiverId and n.id in :ids and n.readAt is null and n.deletedAt is null")
+	int softDeleteUnread(@Param("receiverId") Long receiverId, @Param("ids") Collection<Long> ids,
+			@Param("now") LocalDateTime now);
+
+	/*
+	읽은 알림을 삭제(Soft-Delete)한다.
+	 */
+	@Modifying
+	@Query("update Notification n set n.deletedAt = :now "
+			+ "where n.receiver.id = :receiverId and n.id in :ids and n.readAt is not null and n.deletedAt is null")
+	int softDeleteRead(@Param("receiverId") Long receiverId, @Param("ids") Collection<Long> ids,
+			@Param("now") LocalDateTime now);
+
+	@Query("select max(n.id) from Notification n")
+	Optional<Long> findMaxId();
+
+	/*
+	보관 기간이 지난 알림(createdBefore 이전에 생성) 또는 삭제 후 보관 기간이 지난 알림(deletedBefore 이전에 삭제)을
+	id 기준 keyset 청크로 조회한다. 청크마다 PK를 이어서 스캔하므로 한 번 실행에 테이블을 한 번만 훑는다.
+	 */
+	@Query("select new org.swmaestro.repl.gifthub.notification.dto.NotificationPurgeTargetDto("
+			+ "n.id, n.receiver.id, case when n.readAt is null and n.deletedAt is null then true else false end) "
+			+ "from Notification n where n.id > :id and n.id <= :maxId "
+			+ "and (n.createdAt < :createdBefore or n.deletedAt < :deletedBefore) "
+			+ "order by n.id")
+	List<NotificationPurgeTargetDto> findPurgeTargetsAfterId(@Param("id") Long id, @Param("maxId") Long maxId,
+			@Param("createdBefore") LocalDateTime createdBefore, @Param("deletedBefore") LocalDateTime deletedBefore,
+			Pageable pageable);
 }
@@ -0,0 +1,36 @@
+package org.swmaestro.repl.gifthub.notification.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.swmaestro.repl.gifthub.notification.entity.NotificationSentBitmap;
+
+import jakarta.transaction.Transactional;
+
+public interface NotificationSentBitmapRepository extends JpaRepository<NotificationSentBitmap, Long> {
+	Optional<NotificationSentBitmap> findByBitmapKey(String bitmapKey);
+
+	@Query("select b.version from NotificationSentBitmap b where b.bitmapKey = :bitmapKey")
+	Optional<Long> findVersionByBitmapKey(@Param("bitmapKey") String bitmapKey);
+
+	/*
+	버전이 같을 때만 bitmap을 갱신한다. 반환값이 0이면 다른 트랜잭션이 먼저 갱신(또는 삭제)한 것이다.
+	 */
+	@Modifying
+	@Query("update NotificationSentBitmap b set b.bitmap = :bitmap, b.version = b.version + 1 "
+			+ "where b.bitmapKey = :bitmapKey and b.version = :version")
+	int updateBitmap(@Param("bitmapKey") String bitmapKey, @Param("bitmap") byte[] bitmap,
+			@Param("version") Long version);
+
+	/*
+	기준일이 지나 더 이상 중복 확인에 쓰이지 않는 bitmap을 삭제한다.
+	 */
+	@Transactional
+	@Modifying
+	@Query("delete from NotificationSentBitmap b where b.targetDate < :targetDate")
+	int deleteAllByTargetDateBefore(@Param("targetDate") LocalDate targetDate);
+}
@@ -0,0 +1,86 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherExpirationDto;
+import org.swmaestro.repl.gifthub.vouchers.repository.VoucherRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유효기간 임박(D-n) 알림 생성 작업
+ * 알림 기준일마다 만료일이 (오늘 + n)인 기프티콘을 id 기준 keyset 청크로 읽어 청크 단위 트랜잭션으로 저장하므로,
+ * 대상 기프티콘 수와 상관없이 한 번에 한 청크만 메모리에 올라간다.
+ * 이미 알림을 만든 기프티콘은 NotificationDeduplicator로 걸러지므로 다시 실행하거나 여러 인스턴스에서 실행해도 중복 생성되지 않는다.
+ * 실행 결과는 notification.expiration.* 메트릭으로 기록된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.expiration.enabled", havingValue = "true", matchIfMissing = true)
+public class ExpirationNotificationGenerator {
+	private final VoucherRepository voucherRepository;
+	private final NotificationService notificationService;
+	private final MeterRegistry meterRegistry;
+	@Value("${notification.expiration.days-before:7,3,1}")
+	private int[] daysBefore;
+	@Value("${notification.expiration.chunk-size:1000}")
+	private int chunkSize;
+
+	@Scheduled(cron = "${notification.expiration.cron:0 0 3 * * *}")
+	public void generate() {
+		LocalDate today = LocalDate.now();
+		for (int days : daysBefore) {
+			try {
+				generate(today.plusDays(days), days);
+			} catch (RuntimeException e) {
+				log.error("유효기간 임박 알림 생성 실패 - D-{}", days, e);
+			}
+		}
+	}
+
+	/*
+	만료일이 expiresAt인 기프티콘에 대한 D-days 알림 생성 메서드
+	 */
+	public long generate(LocalDate expiresAt, int days) {
+		String window = "D-" + days;
+		long startedAt = System.nanoTime();
+		long scanned = 0;
+		long generated = 0;
+		Long lastId = 0L;
+
+		List<VoucherExpirationDto> chunk;
+		do {
+			chunk = voucherRepository.findExpirationsByExpiresAtAfterId(expiresAt, lastId,
+					PageRequest.of(0, chunkSize));
+			if (chunk.isEmpty()) {
+				break;
+			}
+			scanned += chunk.size();
+			generated += notificationService.saveExpirationNotifications(chunk, days, expiresAt);
+			lastId = chunk.get(chunk.size() - 1).getId();
+		} while (chunk.size() == chunkSize);
+
+		long elapsedNanos = System.nanoTime() - startedAt;
+		double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+		meterRegistry.timer("notification.expiration.run", "window", window)
+				.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		meterRegistry.counter("notification.expiration.generated", "window", window).increment(generated);
+		meterRegistry.counter("notification.expiration.deduplicated", "window", window)
+				.increment(scanned - generated);
+		meterRegistry.summary("notification.expiration.throughput", "window", window)
+				.record(elapsedSeconds > 0 ? scanned / elapsedSeconds : scanned);
+		log.info("유효기간 임박 알림 생성 완료 - {} ({}) : 대상 {}건 중 {}건 생성, {}ms", window, expiresAt, scanned,
+				generated, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+		return generated;
+	}
+}
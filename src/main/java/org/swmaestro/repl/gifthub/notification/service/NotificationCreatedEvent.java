@@ -0,0 +1,14 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import java.util.List;
+
+import org.swmaestro.repl.gifthub.notification.dto.NotificationReadResponseDto;
+
+/**
+ * 알림이 생성되었음을 알리는 이벤트, 트랜잭션 커밋 후 실시간 스트림으로 전달된다.
+ *
+ * @param receiverIds   notifications와 같은 순서의 수신자 id
+ * @param notifications 생성된 알림
+ */
+public record NotificationCreatedEvent(List<Long> receiverIds, List<NotificationReadResponseDto> notifications) {
+}
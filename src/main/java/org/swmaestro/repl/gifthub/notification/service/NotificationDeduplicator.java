@@ -0,0 +1,185 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.swmaestro.repl.gifthub.notification.NotificationType;
+import org.swmaestro.repl.gifthub.notification.entity.NotificationSentBitmap;
+import org.swmaestro.repl.gifthub.notification.repository.NotificationSentBitmapRepository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 알림 중복 발송 방지
+ * (알림 종류, 알림 기준, 날짜)마다 이미 알림을 만든 대상 id를 Roaring bitmap으로 메모리에 두고 확인하며,
+ * 알림 저장과 같은 트랜잭션에서 DB에도 저장하여 재시작 후에도 다시 보내지 않는다.
+ * bitmap은 id의 상위 비트(id >>> SHARD_BITS)별로 나누어 저장하므로(샤드), 한 행은 id 65,536개 범위만 담는다.
+ * 청크마다 자신이 속한 샤드의 작은 bitmap만 다시 쓰므로 대상이 많아도 저장 비용이 청크 크기에 비례하고,
+ * 하위 비트만 bitmap에 담으므로 id가 int 범위를 넘어도 처리된다.
+ * 다른 인스턴스가 같은 샤드를 갱신하면 버전이 달라지므로 DB에서 다시 읽고,
+ * 동시에 갱신한 경우에는 버전 조건부 UPDATE(또는 unique key)가 실패하여 알림 저장까지 롤백되고 재시도 시 걸러진다.
+ */
+@Component
+public class NotificationDeduplicator {
+	public static final int SHARD_BITS = 16;
+	private static final long SHARD_MASK = (1L << SHARD_BITS) - 1;
+	private final NotificationSentBitmapRepository notificationSentBitmapRepository;
+	private final Cache<String, CachedBitmap> bitmaps;
+
+	public NotificationDeduplicator(NotificationSentBitmapRepository notificationSentBitmapRepository,
+			@Value("${notification.dedupe.maximum-weight-bytes:67108864}") long maximumWeightBytes,
+			@Value("${notification.dedupe.expire-after-access-hours:48}") long expireAfterAccessHours) {
+		this.notificationSentBitmapRepository = notificationSentBitmapRepository;
+		// 샤드 하나는 최대 8KB 정도이며, 메모리 사용량은 bitmap 크기 합으로 제한한다.
+		this.bitmaps = Caffeine.newBuilder()
+				.maximumWeight(maximumWeightBytes)
+				.<String, CachedBitmap>weigher((shardKey, cached) -> (int)cached.bitmap().getLongSizeInBytes())
+				.expireAfterAccess(Duration.ofHours(expireAfterAccessHours))
+				.build();
+	}
+
+	public static String key(NotificationType type, String window, LocalDate targetDate) {
+		return type.name() + ":" + window + ":" + targetDate;
+	}
+
+	/*
+	id가 속한 샤드, 같은 샤드의 id는 같은 bitmap 행에 저장된다.
+	 */
+	public static long shardOf(long id) {
+		return id >>> SHARD_BITS;
+	}
+
+	/*
+	아직 알림을 만들지 않은 대상만 반환한다.
+	DB에서는 대상이 속한 샤드의 버전만 확인하고, 확인 자체는 메모리의 bitmap으로 처리한다.
+	 */
+	public <T> List<T> filterUnsent(String key, List<T> targets, ToLongFunction<T> idExtractor) {
+		Map<Long, RoaringBitmap> shards = new HashMap<>();
+		List<T> unsent = new ArrayList<>(targets.size());
+		for (T target : targets) {
+			long id = idExtractor.applyAsLong(target);
+			RoaringBitmap sent = shards.computeIfAbsent(shardOf(id), shard -> load(shardKey(key, shard)).bitmap());
+			if (!sent.contains(lowBits(id))) {
+				unsent.add(target);
+			}
+		}
+		return unsent;
+	}
+
+	/*
+	알림을 만든 대상 id를 기록한다. 호출한 트랜잭션에서 DB에 저장되고, 커밋된 후에 메모리에 반영된다.
+	샤드마다 버전이 같을 때만 갱신하며, 다른 트랜잭션이 먼저 갱신했으면 OptimisticLockingFailureException이 발생한다.
+	 */
+	public void markSent(String key, LocalDate targetDate, Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		// 여러 샤드를 갱신할 때 항상 같은 순서로 잠그도록 샤드 순으로 처리한다.
+		Map<Long, List<Long>> idsByShard = new TreeMap<>();
+		ids.forEach(id -> idsByShard.computeIfAbsent(shardOf(id), shard -> new ArrayList<>()).add(id));
+
+		Map<String, CachedBitmap> updates = new HashMap<>();
+		idsByShard.forEach((shard, shardIds) -> {
+			String shardKey = shardKey(key, shard);
+			CachedBitmap current = load(shardKey);
+			RoaringBitmap updated = current.bitmap().clone();
+			shardIds.forEach(id -> updated.add(lowBits(id)));
+			updated.runOptimize();
+			updates.put(shardKey, new CachedBitmap(save(shardKey, targetDate, current.version(), updated), updated));
+		});
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				bitmaps.putAll(updates);
+			}
+		});
+	}
+
+	/*
+	bitmap을 저장하고 저장된 버전을 반환한다. 기존 행은 읽지 않고 버전 조건부 UPDATE 한 번으로 갱신한다.
+	 */
+	private Long save(String shardKey, LocalDate targetDate, Long version, RoaringBitmap bitmap) {
+		if (version == null) {
+			// 다른 트랜잭션이 먼저 만든 경우 unique key 충돌(DataIntegrityViolationException)로 실패한다.
+			return notificationSentBitmapRepository.saveAndFlush(NotificationSentBitmap.builder()
+					.bitmapKey(shardKey)
+					.targetDate(targetDate)
+					.bitmap(serialize(bitmap))
+					.build()).getVersion();
+		}
+		if (notificationSentBitmapRepository.updateBitmap(shardKey, serialize(bitmap), version) == 0) {
+			throw new OptimisticLockingFailureException("알림 발송 bitmap이 다른 트랜잭션에서 갱신되었습니다 - " + shardKey);
+		}
+		return version + 1;
+	}
+
+	private CachedBitmap load(String shardKey) {
+		Long version = notificationSentBitmapRepository.findVersionByBitmapKey(shardKey).orElse(null);
+		CachedBitmap cached = bitmaps.getIfPresent(shardKey);
+		if (cached != null && Objects.equals(cached.version(), version)) {
+			return cached;
+		}
+		CachedBitmap loaded = notificationSentBitmapRepository.findByBitmapKey(shardKey)
+				.map(entity -> new CachedBitmap(entity.getVersion(), deserialize(entity.getBitmap())))
+				.orElseGet(() -> new CachedBitmap(null, new RoaringBitmap()));
+		bitmaps.put(shardKey, loaded);
+		return loaded;
+	}
+
+	private static String shardKey(String key, long shard) {
+		return key + ":" + shard;
+	}
+
+	/*
+	샤드 안에서의 위치(id의 하위 SHARD_BITS 비트)
+	 */
+	private static int lowBits(long id) {
+		return (int)(id & SHARD_MASK);
+	}
+
+	private byte[] serialize(RoaringBitmap bitmap) {
+		try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(bitmap.serializedSizeInBytes());
+			 DataOutputStream out = new DataOutputStream(bytes)) {
+			bitmap.serialize(out);
+			out.flush();
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private RoaringBitmap deserialize(byte[] bytes) {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+			RoaringBitmap bitmap = new RoaringBitmap();
+			bitmap.deserialize(in);
+			return bitmap;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private record CachedBitmap(Long version, RoaringBitmap bitmap) {
+	}
+}
@@ -0,0 +1,99 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationPurgeTargetDto;
+import org.swmaestro.repl.gifthub.notification.repository.NotificationRepository;
+import org.swmaestro.repl.gifthub.notification.repository.NotificationSentBitmapRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 보관 기간 정리 작업
+ * 생성 후 notification.retention.days가 지난 알림과 삭제(Soft-Delete) 후 deleted-days가 지난 알림을 영구 삭제하여
+ * 알림 목록/생성 쿼리가 다루는 테이블 크기를 일정하게 유지한다.
+ * id 기준 keyset 청크(batch-size)마다 짧은 트랜잭션으로 삭제하고 청크 사이에 pause-millis만큼 쉬어,
+ * 잠금과 복제 지연이 서비스 트래픽에 영향을 주지 않도록 한다.
+ * 실행 결과는 notification.retention.* 메트릭으로 기록된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationRetentionScheduler {
+	private final NotificationRepository notificationRepository;
+	private final NotificationSentBitmapRepository notificationSentBitmapRepository;
+	private final NotificationService notificationService;
+	private final MeterRegistry meterRegistry;
+	@Value("${notification.retention.days:180}")
+	private int retentionDays;
+	@Value("${notification.retention.deleted-days:30}")
+	private int deletedRetentionDays;
+	@Value("${notification.retention.bitmap-days:7}")
+	private int bitmapRetentionDays;
+	@Value("${notification.recommendation.cooldown-days:7}")
+	private int recommendationCooldownDays;
+	@Value("${notification.retention.batch-size:1000}")
+	private int batchSize;
+	@Value("${notification.retention.pause-millis:200}")
+	private long pauseMillis;
+
+	@Scheduled(cron = "${notification.retention.cron:0 30 4 * * *}")
+	public void purge() {
+		try {
+			purge(LocalDateTime.now());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException e) {
+			log.error("알림 보관 기간 정리 실패", e);
+		}
+	}
+
+	/*
+	now 기준으로 보관 기간이 지난 알림 영구 삭제 메서드
+	 */
+	public long purge(LocalDateTime now) throws InterruptedException {
+		long startedAt = System.nanoTime();
+		LocalDateTime createdBefore = now.minusDays(retentionDays);
+		LocalDateTime deletedBefore = now.minusDays(deletedRetentionDays);
+		// 실행 도중 생성되는 알림은 대상이 아니므로 상한을 먼저 정한다.
+		long maxId = notificationRepository.findMaxId().orElse(0L);
+		long purged = 0;
+		Long lastId = 0L;
+
+		List<NotificationPurgeTargetDto> chunk;
+		do {
+			chunk = notificationRepository.findPurgeTargetsAfterId(lastId, maxId, createdBefore, deletedBefore,
+					PageRequest.of(0, batchSize));
+			if (chunk.isEmpty()) {
+				break;
+			}
+			purged += notificationService.purge(chunk);
+			lastId = chunk.get(chunk.size() - 1).getId();
+			if (chunk.size() == batchSize) {
+				TimeUnit.MILLISECONDS.sleep(pauseMillis);
+			}
+		} while (chunk.size() == batchSize);
+
+		// 추천 알림 cooldown 동안의 bitmap은 중복 확인에 필요하므로 남긴다.
+		int purgedBitmaps = notificationSentBitmapRepository.deleteAllByTargetDateBefore(
+				now.toLocalDate().minusDays(Math.max(bitmapRetentionDays, recommendationCooldownDays)));
+
+		long elapsedNanos = System.nanoTime() - startedAt;
+		meterRegistry.timer("notification.retention.run").record(elapsedNanos, TimeUnit.NANOSECONDS);
+		meterRegistry.counter("notification.retention.purged").increment(purged);
+		meterRegistry.counter("notification.retention.purged_bitmaps").increment(purgedBitmaps);
+		log.info("알림 보관 기간 정리 완료 - 알림 {}건, 중복 확인 bitmap {}건 삭제, {}ms", purged, purgedBitmaps,
+				TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+		return purged;
+	}
+}
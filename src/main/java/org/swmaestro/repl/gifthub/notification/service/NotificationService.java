@@ -0,0 +1,334 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+import org.swmaestro.repl.gifthub.auth.service.MemberService;
+import org.swmaestro.repl.gifthub.exception.BusinessException;
+import org.swmaestro.repl.gifthub.exception.ErrorCode;
+import org.swmaestro.repl.gifthub.notification.NotificationType;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationCountResponseDto;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationIdsRequestDto;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationPageResponseDto;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationPurgeTargetDto;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationReadResponseDto;
+import org.swmaestro.repl.gifthub.notification.dto.PendingNotificationDto;
+import org.swmaestro.repl.gifthub.notification.entity.Notification;
+import org.swmaestro.repl.gifthub.notification.repository.NotificationRepository;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherExpirationDto;
+import org.swmaestro.repl.gifthub.vouchers.repository.VoucherRepository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+	@Value("${notification.page.default-size:20}")
+	private int defaultPageSize;
+	@Value("${notification.page.max-size:100}")
+	private int maxPageSize;
+	@Value("${notification.bulk.max-size:100}")
+	private int maxBulkSize;
+	@Value("${notification.recommendation.cooldown-days:7}")
+	private int recommendationCooldownDays;
+	private final NotificationRepository notificationRepository;
+	private final VoucherRepository voucherRepository;
+	private final MemberService memberService;
+	private final UnreadNotificationCounter unreadNotificationCounter;
+	private final NotificationDeduplicator notificationDeduplicator;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final PushSendWindow pushSendWindow;
+
+	/*
+	알림 목록 페이지 조회 메서드
+	(createdAt, id) 기준 최신순 keyset 페이지네이션으로 조회하며, 삭제된 알림은 제외한다.
+	 */
+	public NotificationPageResponseDto list(Long memberId, String cursor, Integer size) {
+		int pageSize = size == null ? defaultPageSize : Math.min(Math.max(size, 1), maxPageSize);
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다.
+		PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+		List<NotificationReadResponseDto> notifications;
+		if (cursor == null || cursor.isBlank()) {
+			notifications = notificationRepository.findPageByReceiverId(memberId, limit);
+		} else {
+			String[] decodedCursor = decodeCursor(cursor);
+			notifications = notificationRepository.findPageByReceiverIdBefore(memberId,
+					LocalDateTime.parse(decodedCursor[0]), Long.parseLong(decodedCursor[1]), limit);
+		}
+
+		boolean hasNext = notifications.size() > pageSize;
+		if (hasNext) {
+			notifications = notifications.subList(0, pageSize);
+		}
+		NotificationReadResponseDto last = notifications.isEmpty() ? null : notifications.get(notifications.size() - 1);
+
+		return NotificationPageResponseDto.builder()
+				.notifications(notifications)
+				.nextCursor(hasNext ? encodeCursor(last.getCreatedAt(), last.getId()) : null)
+				.hasNext(hasNext)
+				.build();
+	}
+
+	/*
+	읽지 않은 알림 수 조회 메서드
+	 */
+	public NotificationCountResponseDto countUnread(Long memberId) {
+		return NotificationCountResponseDto.builder()
+				.count(unreadNotificationCounter.get(memberId))
+				.build();
+	}
+
+	/*
+	알림 일괄 읽음 처리 메서드
+	요청한 알림 수와 상관없이 UPDATE 한 번으로 처리하며, 응답으로 새로 읽음 처리된 알림 수를 반환한다.
+	 */
+	@Transactional
+	public NotificationCountResponseDto read(Long memberId, NotificationIdsRequestDto notificationIdsRequestDto) {
+		List<Long> ids = validateIds(notificationIdsRequestDto);
+		int read = notificationRepository.markRead(memberId, ids, LocalDateTime.now());
+		unreadNotificationCounter.addAfterCommit(memberId, -read);
+
+		return NotificationCountResponseDto.builder()
+				.count(read)
+				.build();
+	}
+
+	/*
+	알림 일괄 삭제(Soft-Delete) 메서드
+	읽지 않은 알림 수를 보정하기 위해 읽지 않은 알림과 읽은 알림을 각각 UPDATE 한 번으로 삭제한다.
+	응답으로 삭제된 알림 수를 반환한다.
+	 */
+	@Transactional
+	public NotificationCountResponseDto delete(Long memberId, NotificationIdsRequestDto notificationIdsRequestDto) {
+		List<Long> ids = validateIds(notificationIdsRequestDto);
+		LocalDateTime now = LocalDateTime.now();
+		int deletedUnread = notificationRepository.softDeleteUnread(memberId, ids, now);
+		int deletedRead = notificationRepository.softDeleteRead(memberId, ids, now);
+		unreadNotificationCounter.addAfterCommit(memberId, -deletedUnread);
+
+		return NotificationCountResponseDto.builder()
+				.count(deletedUnread + deletedRead)
+				.build();
+	}
+
+	/*
+	유효기간 임박 알림 일괄 저장 메서드
+	이미 같은 기준(D-n, 만료일)으로 알림을 만든 기프티콘은 제외하고,
+	회원/기프티콘은 프록시 참조만 사용하여 추가 조회 없이 한 트랜잭션에서 batch insert로 저장한다.
+	다른 인스턴스와 동시에 처리하여 충돌한 경우 새로운 트랜잭션으로 재시도한다.
+	 */
+	@Retryable(label = "notification.expiration",
+			retryFor = {OptimisticLockingFailureException.class, DataIntegrityViolationException.class},
+			maxAttemptsExpression = "${notification.dedupe.max-attempts:3}",
+			backoff = @Backoff(delayExpression = "${notification.dedupe.delay-millis:100}", random = true,
+					maxDelayExpression = "${notification.dedupe.max-delay-millis:1000}"),
+			listeners = "optimisticLockRetryListener")
+	@Transactional
+	public int saveExpirationNotifications(List<VoucherExpirationDto> candidates, int daysBefore,
+			LocalDate expiresAt) {
+		String dedupeKey = NotificationDeduplicator.key(NotificationType.EXPIRATION, "D-" + daysBefore, expiresAt);
+		List<VoucherExpirationDto> vouchers = notificationDeduplicator.filterUnsent(dedupeKey, candidates,
+				VoucherExpirationDto::getId);
+		if (vouchers.isEmpty()) {
+			return 0;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime sendAfter = pushSendWindow.sendAfter(now);
+		List<Notification> notifications = new ArrayList<>(vouchers.size());
+		for (VoucherExpirationDto voucher : vouchers) {
+			notifications.add(Notification.builder()
+					.receiver(memberService.getReference(voucher.getMemberId()))
+					.voucher(voucherRepository.getReferenceById(voucher.getId()))
+					.type(NotificationType.EXPIRATION)
+					.message(expirationMessage(voucher, daysBefore))
+					.createdAt(now)
+					.sendAfter(sendAfter)
+					.build());
+		}
+		notificationRepository.saveAll(notifications);
+		notificationDeduplicator.markSent(dedupeKey, expiresAt, vouchers.stream()
+				.map(VoucherExpirationDto::getId)
+				.collect(Collectors.toList()));
+		unreadNotificationCounter.addAfterCommit(vouchers.stream()
+				.collect(Collectors.groupingBy(VoucherExpirationDto::getMemberId, Collectors.counting())));
+		publishCreated(notifications);
+		return notifications.size();
+	}
+
+	/*
+	사용 추천 알림 일괄 저장 메서드
+	최근 cooldown-days일(오늘 포함) 안에 추천 알림을 받은 회원은 제외하고, 유효기간 임박 알림과 같은 방식으로 한 트랜잭션에서 batch insert로 저장한다.
+	매일 기프티콘을 사용하는 회원도 cooldown-days일에 한 번만 추천 알림을 받는다.
+	중복 확인 bitmap은 회원 id로 기록하므로, 같은 회원 id 샤드의 회원은 같은 호출에서 처리해야 bitmap 갱신이 충돌하지 않는다.
+	 */
+	@Retryable(label = "notification.recommendation",
+			retryFor = {OptimisticLockingFailureException.class, DataIntegrityViolationException.class},
+			maxAttemptsExpression = "${notification.dedupe.max-attempts:3}",
+			backoff = @Backoff(delayExpression = "${notification.dedupe.delay-millis:100}", random = true,
+					maxDelayExpression = "${notification.dedupe.max-delay-millis:1000}"),
+			listeners = "optimisticLockRetryListener")
+	@Transactional
+	public int saveRecommendationNotifications(List<VoucherRecommendation> candidates, LocalDate date) {
+		String dedupeKey = recommendationDedupeKey(date);
+		List<VoucherRecommendation> recommendations = candidates;
+		for (int day = 0; day < Math.max(recommendationCooldownDays, 1) && !recommendations.isEmpty(); day++) {
+			recommendations = notificationDeduplicator.filterUnsent(recommendationDedupeKey(date.minusDays(day)),
+					recommendations, VoucherRecommendation::memberId);
+		}
+		if (recommendations.isEmpty()) {
+			return 0;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime sendAfter = pushSendWindow.sendAfter(now);
+		List<Notification> notifications = new ArrayList<>(recommendations.size());
+		for (VoucherRecommendation recommendation : recommendations) {
+			notifications.add(Notification.builder()
+					.receiver(memberService.getReference(recommendation.memberId()))
+					.voucher(voucherRepository.getReferenceById(recommendation.voucherId()))
+					.type(NotificationType.RECOMMENDATION)
+					.message(recommendation.message())
+					.createdAt(now)
+					.sendAfter(sendAfter)
+					.build());
+		}
+		notificationRepository.saveAll(notifications);
+		notificationDeduplicator.markSent(dedupeKey, date, recommendations.stream()
+				.map(VoucherRecommendation::memberId)
+				.distinct()
+				.collect(Collectors.toList()));
+		unreadNotificationCounter.addAfterCommit(recommendations.stream()
+				.collect(Collectors.groupingBy(VoucherRecommendation::memberId, Collectors.counting())));
+		publishCreated(notifications);
+		return notifications.size();
+	}
+
+	/*
+	발송 대기 알림 선점 메서드
+	발송 가능 시각이 지난 발송 대기 알림을 최대 size개 잠그고(SKIP LOCKED) 같은 트랜잭션에서 발송 처리(sentAt 기록)하여,
+	여러 인스턴스가 동시에 선점해도 한 알림은 한 인스턴스만 발송한다.
+	발송하지 못한 알림은 releaseUnsent로 다시 발송 대기 상태가 된다.
+	 */
+	@Transactional
+	public List<PendingNotificationDto> claimPending(int size) {
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> ids = notificationRepository.lockPendingIds(now, size);
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		notificationRepository.markSent(ids, now);
+		return notificationRepository.findPendingByIdIn(ids);
+	}
+
+	/*
+	발송하지 못한 알림 선점 해제 메서드
+	발송 실패나 종료로 보내지 못한 알림의 sentAt을 비워 다음 실행에서 다시 발송되게 한다.
+	 */
+	@Transactional
+	public int releaseUnsent(Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return notificationRepository.releaseSent(ids);
+	}
+
+	/*
+	보관 기간이 지난 알림 영구 삭제 메서드
+	DELETE 한 번으로 삭제하고, 삭제된 알림 중 읽지 않은 알림만큼 수신자의 읽지 않은 알림 수를 보정한다.
+	 */
+	@Transactional
+	public int purge(List<NotificationPurgeTargetDto> targets) {
+		if (targets.isEmpty()) {
+			return 0;
+		}
+		notificationRepository.deleteAllByIdInBatch(targets.stream()
+				.map(NotificationPurgeTargetDto::getId)
+				.collect(Collectors.toList()));
+
+		Map<Long, Long> unreadDeltas = new HashMap<>();
+		for (NotificationPurgeTargetDto target : targets) {
+			if (target.isUnread()) {
+				unreadDeltas.merge(target.getReceiverId(), -1L, Long::sum);
+			}
+		}
+		unreadNotificationCounter.addAfterCommit(unreadDeltas);
+		return targets.size();
+	}
+
+	/*
+	생성된 알림을 커밋 후 실시간 스트림으로 전달하기 위한 이벤트 발행
+	 */
+	private void publishCreated(List<Notification> notifications) {
+		List<Long> receiverIds = new ArrayList<>(notifications.size());
+		List<NotificationReadResponseDto> created = new ArrayList<>(notifications.size());
+		for (Notification notification : notifications) {
+			// 프록시 참조의 id는 초기화(조회) 없이 읽힌다.
+			receiverIds.add(notification.getReceiver().getId());
+			created.add(NotificationReadResponseDto.builder()
+					.id(notification.getId())
+					.voucherId(notification.getVoucher().getId())
+					.type(notification.getType())
+					.message(notification.getMessage())
+					.createdAt(notification.getCreatedAt())
+					.build());
+		}
+		applicationEventPublisher.publishEvent(new NotificationCreatedEvent(receiverIds, created));
+	}
+
+	private List<Long> validateIds(NotificationIdsRequestDto notificationIdsRequestDto) {
+		List<Long> ids = notificationIdsRequestDto.getIds();
+		if (ids == null || ids.isEmpty()) {
+			throw new BusinessException("알림을 선택해주세요.", ErrorCode.INVALID_INPUT_VALUE);
+		}
+		if (ids.size() > maxBulkSize) {
+			throw new BusinessException("한 번에 처리할 수 있는 알림은 최대 " + maxBulkSize + "개 입니다.",
+					ErrorCode.INVALID_INPUT_VALUE);
+		}
+		return ids;
+	}
+
+	private String encodeCursor(LocalDateTime createdAt, Long id) {
+		String cursor = createdAt + "_" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String[] decodeCursor(String cursor) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] values = decoded.split("_");
+			LocalDateTime.parse(values[0]);
+			Long.parseLong(values[1]);
+			return values;
+		} catch (RuntimeException e) {
+			throw new BusinessException("유효하지 않은 커서 입니다.", ErrorCode.INVALID_INPUT_VALUE);
+		}
+	}
+
+	private String expirationMessage(VoucherExpirationDto voucher, int daysBefore) {
+		return voucher.getBrandName() + " " + voucher.getProductName() + " 기프티콘의 유효기간이 " + daysBefore
+				+ "일 남았습니다.";
+	}
+
+	private static String recommendationDedupeKey(LocalDate date) {
+		return NotificationDeduplicator.key(NotificationType.RECOMMENDATION, "USAGE", date);
+	}
+}
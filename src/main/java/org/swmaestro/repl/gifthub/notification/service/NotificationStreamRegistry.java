@@ -0,0 +1,268 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationReadResponseDto;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationStreamDto;
+import org.swmaestro.repl.gifthub.notification.repository.NotificationRepository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 실시간 알림(SSE) 연결 관리
+ * 연결은 서블릿 비동기 요청으로 유지되어 대기 중에는 스레드를 점유하지 않는다.
+ * 알림은 주로 스케줄 작업이 실행된 인스턴스에서 생성되므로, 같은 인스턴스에서 생성된 알림은 커밋 이벤트로 바로 전달하고
+ * 다른 인스턴스에서 생성된 알림은 poll-millis(기본 1초)마다 이 인스턴스에 연결된 회원의 최근 알림을 DB에서 조회하여 전달한다.
+ * 커밋 지연과 서버 간 시각 차이를 고려해 직전 조회 시각보다 poll-overlap-millis 앞에서부터 다시 읽고,
+ * 이미 전달한 알림 id는 기억해 두어 한 번만 보낸다. 따라서 로드밸런서의 sticky 라우팅 없이 여러 인스턴스에서 동작한다.
+ * 알림을 발행하는 스레드는 연결별 버퍼에 넣기만 하고, 실제 전송은 소수의 전송 스레드가 담당한다.
+ * 버퍼가 가득 차면(느린 클라이언트) 가장 오래된 이벤트를 버린다. 버린 알림은 알림 목록 API로 다시 조회할 수 있다.
+ * 전송(SseEmitter.send)은 블로킹 쓰기이므로, 한 번의 쓰기가 write-timeout-millis(기본 5초)를 넘으면
+ * write-check-millis(기본 1초)마다 도는 확인 작업이 그 연결을 오류로 종료하고(컨테이너가 응답을 닫으며 막힌 쓰기도 끝난다)
+ * 버퍼를 비운다. 따라서 느린 연결 하나가 전송 스레드를 점유하는 시간은 최대 write-timeout + write-check 이며,
+ * 전송 스레드(writer-threads, 기본 4개)가 모두 막히는 것은 그만큼의 연결이 동시에 멈춘 경우뿐이다.
+ * 한 번의 전송 작업은 최대 buffer-size개 이벤트만 보내고 다시 작업 큐 뒤로 가므로, 이벤트가 많은 연결도 다른 연결을 밀어내지 않는다.
+ */
+@Slf4j
+@Component
+public class NotificationStreamRegistry {
+	private static final int POLL_CHUNK_SIZE = 1000;
+	private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+	private final NotificationRepository notificationRepository;
+	// 이 인스턴스에서 이미 전달한 알림 id
+	private final Cache<Long, Boolean> delivered;
+	private final AtomicInteger connections = new AtomicInteger();
+	private final ExecutorService writer;
+	private final Counter dropped;
+	private final Counter writeTimeouts;
+	private final long timeoutMillis;
+	private final long writeTimeoutNanos;
+	private final int bufferSize;
+	private final int maxConnectionsPerMember;
+	private final long pollOverlapMillis;
+	private volatile LocalDateTime polledAt = LocalDateTime.now();
+
+	public NotificationStreamRegistry(NotificationRepository notificationRepository, MeterRegistry meterRegistry,
+			@Value("${notification.stream.timeout-millis:1800000}") long timeoutMillis,
+			@Value("${notification.stream.buffer-size:32}") int bufferSize,
+			@Value("${notification.stream.max-connections-per-member:5}") int maxConnectionsPerMember,
+			@Value("${notification.stream.writer-threads:4}") int writerThreads,
+			@Value("${notification.stream.write-timeout-millis:5000}") long writeTimeoutMillis,
+			@Value("${notification.stream.poll-overlap-millis:30000}") long pollOverlapMillis) {
+		this.notificationRepository = notificationRepository;
+		this.pollOverlapMillis = pollOverlapMillis;
+		// 다시 읽는 구간(overlap)보다 충분히 오래 기억한다.
+		this.delivered = Caffeine.newBuilder()
+				.maximumSize(100_000)
+				.expireAfterWrite(Duration.ofMillis(pollOverlapMillis * 4))
+				.build();
+		this.timeoutMillis = timeoutMillis;
+		this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+		this.bufferSize = bufferSize;
+		this.maxConnectionsPerMember = maxConnectionsPerMember;
+		this.writer = Executors.newFixedThreadPool(writerThreads, new CustomizableThreadFactory("notification-stream-"));
+		this.dropped = meterRegistry.counter("notification.stream.dropped");
+		this.writeTimeouts = meterRegistry.counter("notification.stream.write_timeouts");
+		meterRegistry.gauge("notification.stream.connections", connections);
+	}
+
+	/*
+	실시간 알림 구독 메서드
+	회원별 최대 연결 수를 넘으면 가장 오래된 연결을 종료한다.
+	 */
+	public SseEmitter subscribe(Long memberId) {
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		Subscription subscription = new Subscription(memberId, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+		Set<Subscription> memberSubscriptions = subscriptions.compute(memberId, (id, set) -> {
+			Set<Subscription> current = set == null ? ConcurrentHashMap.newKeySet() : set;
+			current.add(subscription);
+			return current;
+		});
+		connections.incrementAndGet();
+		if (memberSubscriptions.size() > maxConnectionsPerMember) {
+			memberSubscriptions.stream()
+					.filter(other -> other != subscription)
+					.min((a, b) -> Long.compare(a.subscribedAt(), b.subscribedAt()))
+					.ifPresent(oldest -> oldest.emitter().complete());
+		}
+
+		emitter.onCompletion(() -> remove(subscription));
+		emitter.onTimeout(() -> remove(subscription));
+		emitter.onError(e -> remove(subscription));
+		// 연결 직후 응답 헤더를 보내기 위한 이벤트
+		enqueue(subscription, SseEmitter.event().comment("connected"));
+		return emitter;
+	}
+
+	/*
+	알림 생성 트랜잭션이 커밋된 뒤 수신자의 연결로 알림을 전달한다.
+	 */
+	@TransactionalEventListener
+	public void onNotificationCreated(NotificationCreatedEvent event) {
+		for (int i = 0; i < event.notifications().size(); i++) {
+			deliver(event.receiverIds().get(i), event.notifications().get(i));
+		}
+	}
+
+	/*
+	다른 인스턴스에서 생성된 알림 중 이 인스턴스에 연결된 회원의 알림을 전달한다.
+	 */
+	@Scheduled(fixedDelayString = "${notification.stream.poll-millis:1000}")
+	public void pollCreated() {
+		LocalDateTime now = LocalDateTime.now();
+		if (subscriptions.isEmpty()) {
+			polledAt = now;
+			return;
+		}
+		LocalDateTime since = polledAt.minus(pollOverlapMillis, ChronoUnit.MILLIS);
+		List<Long> memberIds = new ArrayList<>(subscriptions.keySet());
+		try {
+			for (int from = 0; from < memberIds.size(); from += POLL_CHUNK_SIZE) {
+				List<Long> chunk = memberIds.subList(from, Math.min(from + POLL_CHUNK_SIZE, memberIds.size()));
+				for (NotificationStreamDto created : notificationRepository.findCreatedByReceiverIdInSince(chunk,
+						since)) {
+					deliver(created.getReceiverId(), created.getNotification());
+				}
+			}
+			polledAt = now;
+		} catch (RuntimeException e) {
+			// 조회 위치를 유지하므로 다음 실행에서 다시 읽는다.
+			log.warn("실시간 알림 조회 실패", e);
+		}
+	}
+
+	private void deliver(Long receiverId, NotificationReadResponseDto notification) {
+		Set<Subscription> memberSubscriptions = subscriptions.get(receiverId);
+		if (memberSubscriptions == null || delivered.asMap().putIfAbsent(notification.getId(), Boolean.TRUE) != null) {
+			return;
+		}
+		for (Subscription subscription : memberSubscriptions) {
+			enqueue(subscription, SseEmitter.event()
+					.id(String.valueOf(notification.getId()))
+					.name("notification")
+					.data(notification, MediaType.APPLICATION_JSON));
+		}
+	}
+
+	/*
+	프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트를 보낸다.
+	 */
+	@Scheduled(fixedRateString = "${notification.stream.heartbeat-millis:15000}")
+	public void heartbeat() {
+		for (Set<Subscription> memberSubscriptions : subscriptions.values()) {
+			for (Subscription subscription : memberSubscriptions) {
+				if (subscription.buffer().isEmpty()) {
+					enqueue(subscription, SseEmitter.event().comment("heartbeat"));
+				}
+			}
+		}
+	}
+
+	/*
+	쓰기가 write-timeout-millis 이상 끝나지 않은 연결을 종료하여 전송 스레드를 돌려받는다.
+	 */
+	@Scheduled(fixedRateString = "${notification.stream.write-check-millis:1000}")
+	public void expireStalledWrites() {
+		long now = System.nanoTime();
+		for (Set<Subscription> memberSubscriptions : subscriptions.values()) {
+			for (Subscription subscription : memberSubscriptions) {
+				long writeStartedAt = subscription.writeStartedAt().get();
+				if (writeStartedAt != 0 && now - writeStartedAt > writeTimeoutNanos) {
+					writeTimeouts.increment();
+					subscription.buffer().clear();
+					remove(subscription);
+					subscription.emitter().completeWithError(new TimeoutException("알림 전송 시간 초과"));
+				}
+			}
+		}
+	}
+
+	private void enqueue(Subscription subscription, SseEmitter.SseEventBuilder event) {
+		while (!subscription.buffer().offer(event)) {
+			if (subscription.buffer().poll() != null) {
+				dropped.increment();
+			}
+		}
+		if (subscription.draining().compareAndSet(false, true)) {
+			writer.execute(() -> drain(subscription));
+		}
+	}
+
+	private void drain(Subscription subscription) {
+		try {
+			SseEmitter.SseEventBuilder event;
+			int sent = 0;
+			while (sent++ < bufferSize && (event = subscription.buffer().poll()) != null) {
+				subscription.writeStartedAt().set(System.nanoTime());
+				subscription.emitter().send(event);
+				subscription.writeStartedAt().set(0);
+			}
+		} catch (IOException | IllegalStateException e) {
+			// 클라이언트 연결이 끊긴 경우
+			subscription.buffer().clear();
+			remove(subscription);
+			subscription.emitter().completeWithError(e);
+		} finally {
+			subscription.writeStartedAt().set(0);
+			subscription.draining().set(false);
+		}
+		// 전송 중에 새로 들어왔거나 이번 작업에서 보내지 못한 이벤트가 있으면 작업 큐 뒤에서 다시 전송한다.
+		if (!subscription.buffer().isEmpty() && subscription.draining().compareAndSet(false, true)) {
+			writer.execute(() -> drain(subscription));
+		}
+	}
+
+	private void remove(Subscription subscription) {
+		subscriptions.computeIfPresent(subscription.memberId(), (id, set) -> {
+			if (set.remove(subscription)) {
+				connections.decrementAndGet();
+			}
+			return set.isEmpty() ? null : set;
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		subscriptions.values().forEach(memberSubscriptions -> memberSubscriptions.forEach(
+				subscription -> subscription.emitter().complete()));
+		writer.shutdown();
+	}
+
+	private record Subscription(Long memberId, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> buffer,
+								AtomicBoolean draining, AtomicLong writeStartedAt, long subscribedAt) {
+		Subscription(Long memberId, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> buffer) {
+			this(memberId, emitter, buffer, new AtomicBoolean(), new AtomicLong(), System.nanoTime());
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.swmaestro.repl.gifthub.auth.dto.DeviceTokenDto;
+import org.swmaestro.repl.gifthub.auth.repository.DeviceTokenRepository;
+import org.swmaestro.repl.gifthub.auth.service.DeviceTokenPruner;
+import org.swmaestro.repl.gifthub.notification.dto.PendingNotificationDto;
+import org.swmaestro.repl.gifthub.notification.push.PushDispatcher;
+import org.swmaestro.repl.gifthub.notification.push.PushMessage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 발송 대기 알림을 주기적으로 읽어 푸시 발송 워커 풀로 넘기는 작업
+ * 같은 내용의 알림은 수신자들의 기기 토큰을 모아 발송 제공자의 최대 크기 단위 multicast로 묶는다.
+ * 선점한 알림 중 발송 작업으로 넘기기 전에 실패하거나 중단되면 선점을 해제하여 다음 실행에서 다시 발송한다.
+ * 모든 인스턴스에서 실행되며, 선점은 행 잠금(SKIP LOCKED)으로 나뉘므로 한 알림은 한 인스턴스만 발송한다.
+ * 워커 풀의 대기열이 가득 차면 submit에서 대기하므로, 발송이 밀리는 동안에는 새 알림을 읽지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "push.dispatch.enabled", havingValue = "true", matchIfMissing = true)
+public class PushDispatchScheduler {
+	private final NotificationService notificationService;
+	private final DeviceTokenRepository deviceTokenRepository;
+	private final PushDispatcher pushDispatcher;
+	private final DeviceTokenPruner deviceTokenPruner;
+	@Value("${push.dispatch.chunk-size:1000}")
+	private int chunkSize;
+
+	@Scheduled(fixedDelayString = "${push.dispatch.poll-interval-millis:5000}")
+	public void dispatch() {
+		try {
+			List<PendingNotificationDto> notifications;
+			do {
+				notifications = notificationService.claimPending(chunkSize);
+				dispatch(notifications);
+			} while (notifications.size() == chunkSize);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException e) {
+			log.error("푸시 발송 등록 실패", e);
+		}
+	}
+
+	private void dispatch(List<PendingNotificationDto> notifications) throws InterruptedException {
+		if (notifications.isEmpty()) {
+			return;
+		}
+		Set<Long> unsubmitted = notifications.stream()
+				.map(PendingNotificationDto::getId)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		try {
+			submitAll(notifications, unsubmitted);
+		} catch (InterruptedException | RuntimeException e) {
+			// 선점했지만 발송 작업으로 넘기지 못한 알림은 다음 실행에서 다시 발송한다.
+			try {
+				notificationService.releaseUnsent(unsubmitted);
+			} catch (RuntimeException releaseFailure) {
+				e.addSuppressed(releaseFailure);
+			}
+			throw e;
+		}
+	}
+
+	/*
+	같은 내용의 알림끼리 묶어 발송 작업으로 넘기고, 넘긴 알림 id는 unsubmitted에서 뺀다.
+	한 수신자의 기기 토큰은 같은 multicast에 담아 알림별 발송 성공 여부를 메시지 하나로 판단할 수 있게 한다.
+	 */
+	private void submitAll(List<PendingNotificationDto> notifications, Set<Long> unsubmitted)
+			throws InterruptedException {
+		Set<Long> receiverIds = notifications.stream()
+				.map(PendingNotificationDto::getReceiverId)
+				.collect(Collectors.toSet());
+		Map<Long, List<String>> tokensByReceiver = deviceTokenRepository.findAllByMemberIdIn(receiverIds)
+				.stream()
+				.collect(Collectors.groupingBy(DeviceTokenDto::getMemberId,
+						Collectors.mapping(DeviceTokenDto::getToken, Collectors.toList())));
+
+		// 같은 내용의 알림끼리 수신자별 알림 id를 모은다. 기기 토큰이 없는 수신자의 알림은 보낼 곳이 없으므로 발송 처리된다.
+		Map<String, Map<Long, List<Long>>> notificationIdsByMessage = new LinkedHashMap<>();
+		for (PendingNotificationDto notification : notifications) {
+			if (tokensByReceiver.containsKey(notification.getReceiverId())) {
+				notificationIdsByMessage.computeIfAbsent(notification.getMessage(), message -> new LinkedHashMap<>())
+						.computeIfAbsent(notification.getReceiverId(), receiverId -> new ArrayList<>())
+						.add(notification.getId());
+			} else {
+				unsubmitted.remove(notification.getId());
+			}
+		}
+
+		int batchSize = pushDispatcher.maxBatchSize();
+		for (Map.Entry<String, Map<Long, List<Long>>> entry : notificationIdsByMessage.entrySet()) {
+			Set<String> tokens = new LinkedHashSet<>();
+			Map<Long, List<String>> notificationTokens = new LinkedHashMap<>();
+			for (Map.Entry<Long, List<Long>> receiver : entry.getValue().entrySet()) {
+				List<String> receiverTokens = tokensByReceiver.get(receiver.getKey());
+				if (!tokens.isEmpty() && tokens.size() + receiverTokens.size() > batchSize) {
+					submitBatch(entry.getKey(), tokens, notificationTokens, unsubmitted);
+					tokens = new LinkedHashSet<>();
+					notificationTokens = new LinkedHashMap<>();
+				}
+				tokens.addAll(receiverTokens);
+				for (Long notificationId : receiver.getValue()) {
+					notificationTokens.put(notificationId, receiverTokens);
+				}
+			}
+			submitBatch(entry.getKey(), tokens, notificationTokens, unsubmitted);
+		}
+	}
+
+	private void submitBatch(String body, Set<String> tokens, Map<Long, List<String>> notificationTokens,
+			Set<Long> unsubmitted) throws InterruptedException {
+		List<String> tokenList = new ArrayList<>(tokens);
+		int batchSize = pushDispatcher.maxBatchSize();
+		// 기기가 batch 크기보다 많은 수신자만 여러 메시지로 나뉜다.
+		for (int from = 0; from < tokenList.size(); from += batchSize) {
+			pushDispatcher.submit(new PushMessage(body,
+							List.copyOf(tokenList.subList(from, Math.min(from + batchSize, tokenList.size()))),
+							Map.copyOf(notificationTokens)),
+					deviceTokenPruner::report);
+		}
+		unsubmitted.removeAll(notificationTokens.keySet());
+	}
+}
@@ -0,0 +1,38 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 푸시 발송 허용 시간대
+ * 알림은 언제든 생성될 수 있지만(유효기간 임박 알림은 새벽에 생성된다), 푸시는 push.window.start ~ push.window.end 사이에만 보낸다.
+ * 시간대 밖에서 생성된 알림은 다음 시작 시각부터 발송되도록 발송 가능 시각(sendAfter)을 정한다.
+ */
+@Component
+public class PushSendWindow {
+	private final LocalTime start;
+	private final LocalTime end;
+
+	public PushSendWindow(@Value("${push.window.start:09:00}") String start,
+			@Value("${push.window.end:21:00}") String end) {
+		this.start = LocalTime.parse(start);
+		this.end = LocalTime.parse(end);
+	}
+
+	/*
+	now에 생성된 알림을 발송할 수 있는 가장 이른 시각
+	 */
+	public LocalDateTime sendAfter(LocalDateTime now) {
+		LocalTime time = now.toLocalTime();
+		if (time.isBefore(start)) {
+			return now.toLocalDate().atTime(start);
+		}
+		if (!time.isBefore(end)) {
+			return now.toLocalDate().plusDays(1).atTime(start);
+		}
+		return now;
+	}
+}
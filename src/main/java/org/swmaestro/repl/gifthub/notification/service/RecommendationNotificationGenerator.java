@@ -0,0 +1,224 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.swmaestro.repl.gifthub.notification.entity.NotificationJobCheckpoint;
+import org.swmaestro.repl.gifthub.notification.repository.NotificationJobCheckpointRepository;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherRecommendationCandidateDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherUsagePatternDto;
+import org.swmaestro.repl.gifthub.vouchers.repository.VoucherRepository;
+import org.swmaestro.repl.gifthub.vouchers.repository.VoucherUsageHistoryRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용 내역 기반 사용 추천(RECOMMENDATION) 알림 생성 작업
+ * 마지막 실행 이후 새 사용 내역이 있는 회원만 다시 계산하므로(증분 처리) 작업량이 전체 회원 수가 아닌 사용량에 비례한다.
+ * 대상 회원 id를 정렬한 뒤 중복 확인 bitmap 샤드(NotificationDeduplicator.shardOf) 경계로 묶고,
+ * fork-join으로 샤드 범위를 나누어 병렬로 처리한다. 한 샤드의 회원은 항상 한 작업이 순서대로 처리하므로
+ * 병렬 청크끼리 같은 bitmap 행을 갱신하지 않는다(병렬도는 대상 회원이 걸친 샤드 수까지만 늘어난다).
+ * 회원 청크마다 사용 내역과 미사용 기프티콘을 한 번씩 조회하고 추천 알림을 batch insert로 저장한다.
+ * 모든 청크가 성공한 경우에만 처리 위치를 갱신하므로, 실패한 실행은 다음 실행에서 다시 처리된다(이미 만든 알림은 중복 제거된다).
+ * 실행 결과는 notification.recommendation.* 메트릭으로 기록된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.recommendation.enabled", havingValue = "true", matchIfMissing = true)
+public class RecommendationNotificationGenerator {
+	private static final String JOB_NAME = "RECOMMENDATION";
+	private final VoucherUsageHistoryRepository voucherUsageHistoryRepository;
+	private final VoucherRepository voucherRepository;
+	private final NotificationJobCheckpointRepository notificationJobCheckpointRepository;
+	private final NotificationService notificationService;
+	private final UsageRecommender usageRecommender;
+	private final MeterRegistry meterRegistry;
+	private final ForkJoinPool pool;
+	private final int chunkSize;
+	private final int lookbackDays;
+
+	/*
+	청크 처리는 DB 조회를 기다리므로 공용 ForkJoinPool이 아닌 전용 풀을 사용하며,
+	병렬도(parallelism)는 커넥션 풀 크기보다 충분히 작게 설정해야 한다.
+	 */
+	public RecommendationNotificationGenerator(VoucherUsageHistoryRepository voucherUsageHistoryRepository,
+			VoucherRepository voucherRepository, NotificationJobCheckpointRepository notificationJobCheckpointRepository,
+			NotificationService notificationService, UsageRecommender usageRecommender, MeterRegistry meterRegistry,
+			@Value("${notification.recommendation.parallelism:4}") int parallelism,
+			@Value("${notification.recommendation.chunk-size:500}") int chunkSize,
+			@Value("${notification.recommendation.lookback-days:90}") int lookbackDays) {
+		this.voucherUsageHistoryRepository = voucherUsageHistoryRepository;
+		this.voucherRepository = voucherRepository;
+		this.notificationJobCheckpointRepository = notificationJobCheckpointRepository;
+		this.notificationService = notificationService;
+		this.usageRecommender = usageRecommender;
+		this.meterRegistry = meterRegistry;
+		this.pool = new ForkJoinPool(parallelism);
+		this.chunkSize = chunkSize;
+		this.lookbackDays = lookbackDays;
+	}
+
+	@Scheduled(cron = "${notification.recommendation.cron:0 0 10 * * *}")
+	public void generate() {
+		try {
+			generate(LocalDate.now());
+		} catch (RuntimeException e) {
+			log.error("사용 추천 알림 생성 실패", e);
+		}
+	}
+
+	/*
+	마지막 처리 이후 새 사용 내역이 있는 회원들에 대한 사용 추천 알림 생성 메서드
+	 */
+	public long generate(LocalDate today) {
+		long startedAt = System.nanoTime();
+		NotificationJobCheckpoint checkpoint = notificationJobCheckpointRepository.findByJobName(JOB_NAME)
+				.orElseGet(() -> NotificationJobCheckpoint.builder()
+						.jobName(JOB_NAME)
+						.lastProcessedId(0L)
+						.build());
+		long after = checkpoint.getLastProcessedId();
+		// 실행 도중 추가되는 사용 내역은 다음 실행에서 처리하도록 상한을 먼저 정한다.
+		long upto = voucherUsageHistoryRepository.findMaxId().orElse(0L);
+		if (upto <= after) {
+			return 0;
+		}
+
+		long[] memberIds = voucherUsageHistoryRepository.findMemberIdsByIdBetween(after, upto).stream()
+				.mapToLong(Long::longValue)
+				.sorted()
+				.toArray();
+		LongAdder generated = new LongAdder();
+		AtomicInteger failedChunks = new AtomicInteger();
+		if (memberIds.length > 0) {
+			int[] shardStarts = shardStarts(memberIds);
+			pool.invoke(new MemberRangeTask(memberIds, shardStarts, 0, shardStarts.length - 1, today, generated,
+					failedChunks));
+		}
+
+		if (failedChunks.get() == 0) {
+			checkpoint.setLastProcessedId(upto);
+			checkpoint.setProcessedAt(LocalDateTime.now());
+			notificationJobCheckpointRepository.save(checkpoint);
+		} else {
+			log.warn("사용 추천 알림 생성 중 {}개 청크 실패 - 처리 위치를 갱신하지 않음", failedChunks.get());
+		}
+
+		long elapsedNanos = System.nanoTime() - startedAt;
+		double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+		meterRegistry.timer("notification.recommendation.run").record(elapsedNanos, TimeUnit.NANOSECONDS);
+		meterRegistry.counter("notification.recommendation.members").increment(memberIds.length);
+		meterRegistry.counter("notification.recommendation.generated").increment(generated.sum());
+		meterRegistry.counter("notification.recommendation.failed_chunks").increment(failedChunks.get());
+		meterRegistry.summary("notification.recommendation.throughput")
+				.record(elapsedSeconds > 0 ? memberIds.length / elapsedSeconds : memberIds.length);
+		log.info("사용 추천 알림 생성 완료 - 사용 내역 ({}, {}] : 회원 {}명, {}건 생성, {}ms", after, upto,
+				memberIds.length, generated.sum(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+		return generated.sum();
+	}
+
+	/*
+	정렬된 회원 id에서 샤드가 시작하는 위치 목록, 마지막 원소는 memberIds.length이다.
+	 */
+	private static int[] shardStarts(long[] memberIds) {
+		List<Integer> starts = new ArrayList<>();
+		for (int i = 0; i < memberIds.length; i++) {
+			if (i == 0 || NotificationDeduplicator.shardOf(memberIds[i]) != NotificationDeduplicator.shardOf(
+					memberIds[i - 1])) {
+				starts.add(i);
+			}
+		}
+		starts.add(memberIds.length);
+		return starts.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/*
+	회원 청크 하나의 추천 알림 생성
+	 */
+	private int process(List<Long> memberIds, LocalDate today) {
+		List<VoucherUsagePatternDto> patterns = voucherUsageHistoryRepository.findUsagePatternsByMemberIdIn(
+				memberIds, today.minusDays(lookbackDays).atStartOfDay());
+		List<VoucherRecommendationCandidateDto> candidates =
+				voucherRepository.findRecommendationCandidatesByMemberIdIn(memberIds, today);
+		List<VoucherRecommendation> recommendations = usageRecommender.recommend(patterns, candidates);
+		if (recommendations.isEmpty()) {
+			return 0;
+		}
+		return notificationService.saveRecommendationNotifications(recommendations, today);
+	}
+
+	/*
+	[fromShard, toShard) 샤드 범위를 샤드 하나가 되거나 회원 수가 청크 크기 이하가 될 때까지 반으로 나누어 처리하는 작업
+	샤드 하나에 청크 크기보다 많은 회원이 있으면 청크 크기씩 순서대로 처리한다.
+	 */
+	private final class MemberRangeTask extends RecursiveAction {
+		private final long[] memberIds;
+		private final int[] shardStarts;
+		private final int fromShard;
+		private final int toShard;
+		private final LocalDate today;
+		private final LongAdder generated;
+		private final AtomicInteger failedChunks;
+
+		MemberRangeTask(long[] memberIds, int[] shardStarts, int fromShard, int toShard, LocalDate today,
+				LongAdder generated, AtomicInteger failedChunks) {
+			this.memberIds = memberIds;
+			this.shardStarts = shardStarts;
+			this.fromShard = fromShard;
+			this.toShard = toShard;
+			this.today = today;
+			this.generated = generated;
+			this.failedChunks = failedChunks;
+		}
+
+		@Override
+		protected void compute() {
+			int from = shardStarts[fromShard];
+			int to = shardStarts[toShard];
+			if (toShard - fromShard == 1 || to - from <= chunkSize) {
+				for (int start = from; start < to; start += chunkSize) {
+					processChunk(start, Math.min(start + chunkSize, to));
+				}
+				return;
+			}
+			int mid = (fromShard + toShard) >>> 1;
+			invokeAll(new MemberRangeTask(memberIds, shardStarts, fromShard, mid, today, generated, failedChunks),
+					new MemberRangeTask(memberIds, shardStarts, mid, toShard, today, generated, failedChunks));
+		}
+
+		private void processChunk(int from, int to) {
+			List<Long> chunk = Arrays.stream(memberIds, from, to)
+					.boxed()
+					.collect(Collectors.toList());
+			try {
+				generated.add(process(chunk, today));
+			} catch (RuntimeException e) {
+				failedChunks.incrementAndGet();
+				log.error("사용 추천 알림 생성 실패 - 회원 id {} ~ {}", memberIds[from], memberIds[to - 1], e);
+			}
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		pool.shutdown();
+		if (!pool.awaitTermination(30, TimeUnit.SECONDS)) {
+			pool.shutdownNow();
+		}
+	}
+}
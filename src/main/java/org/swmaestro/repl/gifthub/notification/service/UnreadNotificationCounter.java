@@ -0,0 +1,72 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.swmaestro.repl.gifthub.notification.repository.NotificationRepository;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * 회원별 읽지 않은 알림 수 캐시
+ * 캐시에 없을 때만 COUNT 쿼리로 적재하고, 이후에는 알림 생성/읽음/삭제 시 증감하여 O(1)로 응답한다.
+ * 증감은 캐시의 쓰기 시각을 갱신하지 않으므로, 다른 인스턴스의 변경으로 생긴 오차는 만료 시간 이내에 COUNT로 바로잡힌다.
+ * 트랜잭션 안의 변경은 addAfterCommit으로 커밋된 후에만 반영하여, 롤백되거나 재시도된 트랜잭션의 증감이 남지 않게 한다.
+ */
+@Component
+public class UnreadNotificationCounter {
+	private final LoadingCache<Long, AtomicLong> unreadCounts;
+
+	public UnreadNotificationCounter(NotificationRepository notificationRepository,
+			@Value("${notification.unread-count.maximum-size:100000}") long maximumSize,
+			@Value("${notification.unread-count.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+		this.unreadCounts = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+				.build(receiverId -> new AtomicLong(
+						notificationRepository.countByReceiverIdAndReadAtIsNullAndDeletedAtIsNull(receiverId)));
+	}
+
+	public long get(Long receiverId) {
+		return unreadCounts.get(receiverId).get();
+	}
+
+	public void addAfterCommit(Long receiverId, long delta) {
+		addAfterCommit(Map.of(receiverId, delta));
+	}
+
+	/*
+	회원별 증감을 현재 트랜잭션이 커밋된 후에 반영한다. 롤백되면 반영하지 않으며, 트랜잭션 밖에서는 바로 반영한다.
+	 */
+	public void addAfterCommit(Map<Long, Long> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			deltas.forEach(this::add);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				deltas.forEach(UnreadNotificationCounter.this::add);
+			}
+		});
+	}
+
+	/*
+	캐시에 적재된 회원의 값만 증감한다. 적재되지 않은 회원은 다음 조회 시 COUNT로 적재된다.
+	 */
+	public void add(Long receiverId, long delta) {
+		AtomicLong unreadCount = unreadCounts.getIfPresent(receiverId);
+		if (unreadCount != null) {
+			unreadCount.updateAndGet(count -> Math.max(0, count + delta));
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherRecommendationCandidateDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherUsagePatternDto;
+
+/**
+ * 사용 내역 기반 기프티콘 사용 추천
+ * 회원별로 브랜드별 사용 횟수와 브랜드별로 가장 많이 사용한 장소, 시간대를 집계하고,
+ * 미사용 기프티콘 중 사용 횟수가 많은 브랜드(같으면 만료일이 빠른 순)의 기프티콘을 추천한다.
+ * 한 번도 사용하지 않은 브랜드의 기프티콘은 추천하지 않는다.
+ */
+@Component
+public class UsageRecommender {
+	private static final int MAX_PLACE_LENGTH = 20;
+	@Value("${notification.recommendation.per-member:1}")
+	private int perMember;
+
+	public List<VoucherRecommendation> recommend(List<VoucherUsagePatternDto> patterns,
+			List<VoucherRecommendationCandidateDto> candidates) {
+		Map<Long, Map<Long, BrandUsage>> usageByMember = new HashMap<>();
+		for (VoucherUsagePatternDto pattern : patterns) {
+			usageByMember.computeIfAbsent(pattern.getMemberId(), memberId -> new HashMap<>())
+					.computeIfAbsent(pattern.getBrandId(), brandId -> new BrandUsage())
+					.add(pattern);
+		}
+
+		Map<Long, List<VoucherRecommendationCandidateDto>> candidatesByMember = candidates.stream()
+				.collect(Collectors.groupingBy(VoucherRecommendationCandidateDto::getMemberId));
+
+		List<VoucherRecommendation> recommendations = new ArrayList<>();
+		for (Map.Entry<Long, List<VoucherRecommendationCandidateDto>> entry : candidatesByMember.entrySet()) {
+			Map<Long, BrandUsage> usageByBrand = usageByMember.get(entry.getKey());
+			if (usageByBrand == null) {
+				continue;
+			}
+			entry.getValue().stream()
+					.filter(candidate -> usageByBrand.containsKey(candidate.getBrandId()))
+					.sorted(Comparator.<VoucherRecommendationCandidateDto>comparingInt(
+									candidate -> -usageByBrand.get(candidate.getBrandId()).count)
+							.thenComparing(VoucherRecommendationCandidateDto::getExpiresAt)
+							.thenComparing(VoucherRecommendationCandidateDto::getId))
+					.limit(perMember)
+					.forEach(candidate -> recommendations.add(new VoucherRecommendation(candidate.getMemberId(),
+							candidate.getId(), message(candidate, usageByBrand.get(candidate.getBrandId())))));
+		}
+		return recommendations;
+	}
+
+	private String message(VoucherRecommendationCandidateDto candidate, BrandUsage usage) {
+		String place = usage.topPlace();
+		String where = place == null ? "" : place + "에서 ";
+		return where + "자주 사용하신 " + candidate.getBrandName() + " " + candidate.getProductName()
+				+ " 기프티콘이 있어요. " + usage.topTimeOfDay().label + "에 사용해보세요.";
+	}
+
+	private enum TimeOfDay {
+		MORNING("아침"), LUNCH("점심"), AFTERNOON("오후"), EVENING("저녁"), NIGHT("밤");
+
+		private final String label;
+
+		TimeOfDay(String label) {
+			this.label = label;
+		}
+
+		static TimeOfDay of(int hour) {
+			if (hour >= 5 && hour < 11) {
+				return MORNING;
+			}
+			if (hour >= 11 && hour < 14) {
+				return LUNCH;
+			}
+			if (hour >= 14 && hour < 17) {
+				return AFTERNOON;
+			}
+			if (hour >= 17 && hour < 21) {
+				return EVENING;
+			}
+			return NIGHT;
+		}
+	}
+
+	/*
+	한 회원의 한 브랜드 사용 집계
+	 */
+	private static final class BrandUsage {
+		private int count;
+		private final Map<String, Integer> places = new HashMap<>();
+		private final int[] timesOfDay = new int[TimeOfDay.values().length];
+
+		void add(VoucherUsagePatternDto pattern) {
+			count++;
+			if (pattern.getPlace() != null && !pattern.getPlace().isBlank()) {
+				places.merge(pattern.getPlace().strip(), 1, Integer::sum);
+			}
+			timesOfDay[TimeOfDay.of(pattern.getUsedAt().getHour()).ordinal()]++;
+		}
+
+		String topPlace() {
+			return places.entrySet().stream()
+					.max(Map.Entry.<String, Integer>comparingByValue()
+							.thenComparing(Map.Entry.<String, Integer>comparingByKey()))
+					.map(Map.Entry::getKey)
+					.map(place -> place.length() > MAX_PLACE_LENGTH ? place.substring(0, MAX_PLACE_LENGTH) : place)
+					.orElse(null);
+		}
+
+		TimeOfDay topTimeOfDay() {
+			int top = 0;
+			for (int i = 1; i < timesOfDay.length; i++) {
+				if (timesOfDay[i] > timesOfDay[top]) {
+					top = i;
+				}
+			}
+			return TimeOfDay.values()[top];
+		}
+	}
+}
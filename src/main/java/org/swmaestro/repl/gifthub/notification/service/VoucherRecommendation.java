@@ -0,0 +1,11 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+/**
+ * 회원에게 사용을 추천할 기프티콘
+ *
+ * @param memberId  수신자 id
+ * @param voucherId 추천 기프티콘 id
+ * @param message   알림 내용
+ */
+public record VoucherRecommendation(Long memberId, Long voucherId, String message) {
+}
@@ -7,12 +7,40 @@ import org.swmaestro.repl.gifthub.auth.entity.Member;
 import java.util.Collection;
 
 public class CustomUserDetails implements UserDetails {
+	private final Long memberId;
+	private final String username;
 	private final Member member;
 
 	public CustomUserDetails(Member member) {
+		this.memberId = member.getId();
+		this.username = member.getUsername();
 		this.member = member;
 	}
 
+	private CustomUserDetails(Long memberId, String username) {
+		this.memberId = memberId;
+		this.username = username;
+		this.member = null;
+	}
+
+	/**
+	 * JWT Claims만으로 인증 정보를 생성하는 메소드(DB 조회 없음)
+	 *
+	 * @param memberId
+	 * @param username
+	 * @return Member 엔티티를 포함하지 않는 인증 정보
+	 */
+	public static CustomUserDetails of(Long memberId, String username) {
+		return new CustomUserDetails(memberId, username);
+	}
+
+	public Long getMemberId() {
+		return memberId;
+	}
+
+	/**
+	 * Claims로 생성된 인증 정보의 경우 null을 반환한다.
+	 */
 	public final Member getMember() {
 		return member;
 	}
@@ -24,12 +52,12 @@ public class CustomUserDetails implements UserDetails {
 
 	@Override
 	public String getPassword() {
-		return member.getPassword();
+		return member == null ? null : member.getPassword();
 	}
 
 	@Override
 	public String getUsername() {
-		return member.getUsername();
+		return username;
 	}
 
 	@Override
@@ -51,4 +79,4 @@ public class CustomUserDetails implements UserDetails {
 	public boolean isEnabled() {
 		return true;
 	}
-}
\ No newline at end of file
+}
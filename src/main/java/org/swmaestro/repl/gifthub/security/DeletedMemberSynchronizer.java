@@ -0,0 +1,63 @@
+package org.swmaestro.repl.gifthub.security;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.swmaestro.repl.gifthub.auth.repository.MemberRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 탈퇴한 회원 동기화
+ * 탈퇴는 처리한 인스턴스의 UserDetailsCache에만 바로 기록되므로, 인스턴스마다 interval-millis 간격으로
+ * 그 사이 탈퇴한 회원 id를 DB에서 한 번 읽어 자신의 UserDetailsCache에 기록한다.
+ * 요청마다 DB를 조회하지 않으면서도, 다른 인스턴스에서 탈퇴한 회원의 AccessToken은 최대 interval-millis 후에 거부된다.
+ * 시작할 때는 AccessToken 유효 기간 안에 탈퇴한 회원을 모두 읽고, 이후에는 커밋 지연과 서버 간 시각 차이를 고려해
+ * 직전 조회 시각보다 overlap-millis 앞에서부터 다시 읽는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.stateless-authentication", havingValue = "true", matchIfMissing = true)
+public class DeletedMemberSynchronizer {
+	private final MemberRepository memberRepository;
+	private final UserDetailsCache userDetailsCache;
+	private final long tokenExpiration;
+	private final long overlapMillis;
+	private volatile LocalDateTime syncedAt;
+
+	public DeletedMemberSynchronizer(MemberRepository memberRepository, UserDetailsCache userDetailsCache,
+			@Value("${jwt.expiration-time}") long tokenExpiration,
+			@Value("${security.deleted-member-sync.overlap-millis:5000}") long overlapMillis) {
+		this.memberRepository = memberRepository;
+		this.userDetailsCache = userDetailsCache;
+		this.tokenExpiration = tokenExpiration;
+		this.overlapMillis = overlapMillis;
+	}
+
+	@PostConstruct
+	public void load() {
+		syncedAt = LocalDateTime.now().minus(tokenExpiration, ChronoUnit.MILLIS);
+		sync();
+	}
+
+	@Scheduled(fixedDelayString = "${security.deleted-member-sync.interval-millis:10000}",
+			initialDelayString = "${security.deleted-member-sync.interval-millis:10000}")
+	public void sync() {
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			List<Long> memberIds = memberRepository.findIdsByDeletedAtGreaterThanEqual(
+					syncedAt.minus(overlapMillis, ChronoUnit.MILLIS));
+			memberIds.forEach(userDetailsCache::markDeleted);
+			syncedAt = now;
+		} catch (RuntimeException e) {
+			// 조회 위치를 유지하므로 다음 실행에서 다시 읽는다.
+			log.warn("탈퇴 회원 동기화 실패", e);
+		}
+	}
+}
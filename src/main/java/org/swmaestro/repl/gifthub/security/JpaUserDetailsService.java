@@ -12,15 +12,20 @@ import org.swmaestro.repl.gifthub.auth.repository.MemberRepository;
 @RequiredArgsConstructor
 public class JpaUserDetailsService implements UserDetailsService {
 	private final MemberRepository memberRepository;
+	private final UserDetailsCache userDetailsCache;
 
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+		CustomUserDetails cached = userDetailsCache.get(username);
+		if (cached != null) {
+			return cached;
+		}
 		Member member = memberRepository.findByUsername(username);
-		if (member != null) {
-			return new CustomUserDetails(member);
-		} else {
-			return (UserDetails) new UsernameNotFoundException("User not found with username: " + username);
+		if (member == null) {
+			throw new UsernameNotFoundException("User not found with username: " + username);
 		}
-
+		CustomUserDetails userDetails = new CustomUserDetails(member);
+		userDetailsCache.put(username, userDetails);
+		return userDetails;
 	}
 }
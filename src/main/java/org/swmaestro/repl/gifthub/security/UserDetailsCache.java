@@ -0,0 +1,54 @@
+package org.swmaestro.repl.gifthub.security;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 인증에 사용되는 UserDetails 캐시
+ * 회원 정보가 수정/삭제되면 MemberService에서 무효화한다.
+ * 삭제된 회원 id는 인스턴스마다 따로 보관하므로, 다른 인스턴스에서 삭제된 회원은 DeletedMemberSynchronizer가 주기적으로 기록한다.
+ */
+@Component
+public class UserDetailsCache {
+	private final Cache<String, CustomUserDetails> userDetails;
+	private final Cache<Long, Boolean> deletedMembers;
+
+	public UserDetailsCache(@Value("${security.user-details-cache.maximum-size:10000}") long maximumSize,
+			@Value("${security.user-details-cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds,
+			@Value("${jwt.expiration-time}") long tokenExpiration) {
+		this.userDetails = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+				.build();
+		// 삭제된 회원의 AccessToken이 만료될 때까지만 보관하면 된다.
+		this.deletedMembers = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(Duration.ofMillis(tokenExpiration))
+				.build();
+	}
+
+	public CustomUserDetails get(String username) {
+		return userDetails.getIfPresent(username);
+	}
+
+	public void put(String username, CustomUserDetails customUserDetails) {
+		userDetails.put(username, customUserDetails);
+	}
+
+	public void invalidate(String username) {
+		userDetails.invalidate(username);
+	}
+
+	public void markDeleted(Long memberId) {
+		deletedMembers.put(memberId, Boolean.TRUE);
+	}
+
+	public boolean isDeleted(Long memberId) {
+		return deletedMembers.getIfPresent(memberId) != null;
+	}
+}
@@ -0,0 +1,29 @@
+package org.swmaestro.repl.gifthub.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * 조회 응답의 강한(strong) ETag 값을 생성하는 유틸리티입니다.
+ * 응답 본문을 직렬화하지 않고 버전, 수정 시각, 필드 값처럼 응답을 결정하는 값만으로 계산합니다.
+ */
+public final class ETagGenerator {
+	private static final String DELIMITER = ":";
+
+	private ETagGenerator() {
+	}
+
+	/**
+	 * 전달된 값들을 이어 붙인 문자열의 MD5 해시를 따옴표로 감싸 반환합니다.
+	 */
+	public static String generate(Object... parts) {
+		String source = Arrays.stream(parts)
+				.map(part -> Objects.toString(part, ""))
+				.collect(Collectors.joining(DELIMITER));
+		return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+}
@@ -2,7 +2,9 @@ package org.swmaestro.repl.gifthub.util;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
@@ -10,11 +12,17 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.swmaestro.repl.gifthub.auth.entity.Member;
+import org.swmaestro.repl.gifthub.auth.repository.MemberRepository;
 import org.swmaestro.repl.gifthub.auth.repository.RefreshTokenRepository;
 import org.swmaestro.repl.gifthub.exception.BusinessException;
 import org.swmaestro.repl.gifthub.exception.ErrorCode;
+import org.swmaestro.repl.gifthub.security.CustomUserDetails;
 import org.swmaestro.repl.gifthub.security.JpaUserDetailsService;
+import org.swmaestro.repl.gifthub.security.UserDetailsCache;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -23,20 +31,31 @@ import java.util.Date;
 @Component
 @PropertySource("classpath:application.yml")
 public class JwtProvider {
-	private final String secretKey;
+	public static final String MEMBER_ID_CLAIM = "member_id";
+	private final SecretKey signingKey;
+	private final JwtParser jwtParser;
 	private final long expiration;
 	private final String issuer;
+	private final boolean statelessAuthentication;
 	private final JpaUserDetailsService userDetailsService;
+	private final UserDetailsCache userDetailsCache;
 	private final RefreshTokenRepository refreshTokenRepository;
+	private final MemberRepository memberRepository;
 
 	public JwtProvider(@Value("${jwt.secret-key}") String secretKey, @Value("${jwt.expiration-time}") long expiration,
-	                   @Value("${issuer}") String issuer, JpaUserDetailsService userDetailsService,
-	                   RefreshTokenRepository refreshTokenRepository) {
-		this.secretKey = secretKey;
+	                   @Value("${issuer}") String issuer,
+	                   @Value("${jwt.stateless-authentication:true}") boolean statelessAuthentication,
+	                   JpaUserDetailsService userDetailsService, UserDetailsCache userDetailsCache,
+	                   RefreshTokenRepository refreshTokenRepository, MemberRepository memberRepository) {
+		this.signingKey = new SecretKeySpec(secretKey.getBytes(), SignatureAlgorithm.HS512.getJcaName());
+		this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
 		this.expiration = expiration;
 		this.issuer = issuer;
+		this.statelessAuthentication = statelessAuthentication;
 		this.userDetailsService = userDetailsService;
+		this.userDetailsCache = userDetailsCache;
 		this.refreshTokenRepository = refreshTokenRepository;
+		this.memberRepository = memberRepository;
 	}
 
 	/**
@@ -46,12 +65,24 @@ public class JwtProvider {
 	 * @return JWT 토큰
 	 */
 	public String generateToken(String username) {
+		return generateToken(username, null);
+	}
+
+	/**
+	 * member id를 포함한 AccessToken 생성 메소드
+	 *
+	 * @param username
+	 * @param memberId
+	 * @return JWT 토큰
+	 */
+	public String generateToken(String username, Long memberId) {
 		return io.jsonwebtoken.Jwts.builder()
 				.setSubject(username)
+				.claim(MEMBER_ID_CLAIM, memberId)
 				.setIssuer(issuer)
 				.setIssuedAt(new java.util.Date(System.currentTimeMillis()))
 				.setExpiration(new java.util.Date(System.currentTimeMillis() + expiration))
-				.signWith(io.jsonwebtoken.SignatureAlgorithm.HS512, secretKey.getBytes())
+				.signWith(signingKey, SignatureAlgorithm.HS512)
 				.compact();
 	}
 
@@ -62,18 +93,31 @@ public class JwtProvider {
 	 * @return 유효성 여부
 	 */
 	public boolean validateToken(String token) {
+		return resolveClaims(token) != null;
+	}
+
+	/**
+	 * Bearer JWT 토큰을 한 번만 파싱하여 Claims를 가져오는 메소드
+	 *
+	 * @param token
+	 * @return 유효한 토큰이면 Claims, 유효하지 않으면 null
+	 */
+	public Claims resolveClaims(String token) {
 		try {
 			// Bearer 검증
 			if (!token.substring(0, "BEARER ".length()).equalsIgnoreCase("BEARER ")) {
-				return false;
+				return null;
 			} else {
 				token = token.split(" ")[1].trim();
 			}
-			Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(secretKey.getBytes()).build().parseClaimsJws(token);
-			// 만료되었을 시 false
-			return !claims.getBody().getExpiration().before(new Date());
+			Jws<Claims> claims = jwtParser.parseClaimsJws(token);
+			// 만료되었을 시 null
+			if (claims.getBody().getExpiration().before(new Date())) {
+				return null;
+			}
+			return claims.getBody();
 		} catch (Exception e) {
-			return false;
+			return null;
 		}
 	}
 
@@ -94,7 +138,28 @@ public class JwtProvider {
 	 * @return 인증 정보
 	 */
 	public Authentication getAuthentication(String token) {
-		UserDetails userDetails = userDetailsService.loadUserByUsername(this.getUsername(token));
+		return getAuthentication(jwtParser.parseClaimsJws(token).getBody());
+	}
+
+	/**
+	 * 이미 파싱된 Claims에서 인증 정보를 가져오는 메소드
+	 * stateless 모드에서 member id claim이 있으면 DB 조회 없이 Claims만으로 인증 정보를 생성한다.
+	 * 탈퇴 여부는 UserDetailsCache로 확인하며, 다른 인스턴스에서 탈퇴한 회원은 DeletedMemberSynchronizer가 주기적으로 반영한다.
+	 *
+	 * @param claims
+	 * @return 인증 정보(삭제된 회원인 경우 null)
+	 */
+	public Authentication getAuthentication(Claims claims) {
+		Long memberId = claims.get(MEMBER_ID_CLAIM, Long.class);
+		UserDetails userDetails;
+		if (statelessAuthentication && memberId != null) {
+			if (userDetailsCache.isDeleted(memberId)) {
+				return null;
+			}
+			userDetails = CustomUserDetails.of(memberId, claims.getSubject());
+		} else {
+			userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+		}
 		return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
 	}
 
@@ -105,10 +170,7 @@ public class JwtProvider {
 	 * @return username
 	 */
 	public String getUsername(String token) {
-		return Jwts.parserBuilder()
-				.setSigningKey(secretKey.getBytes())
-				.build()
-				.parseClaimsJws(token)
+		return jwtParser.parseClaimsJws(token)
 				.getBody()
 				.getSubject();
 	}
@@ -125,12 +187,13 @@ public class JwtProvider {
 				.setIssuer(issuer)
 				.setIssuedAt(new java.util.Date(System.currentTimeMillis()))
 				.setExpiration(Date.from(Instant.now().plus(15, ChronoUnit.DAYS)))
-				.signWith(io.jsonwebtoken.SignatureAlgorithm.HS512, secretKey.getBytes())
+				.signWith(signingKey, SignatureAlgorithm.HS512)
 				.compact();
 	}
 
 	/**
 	 * RefreshToken으로 AccessToken을 재발급하는 메소드(단 DB에 저장 되어 있던 RefreshToken과 username이 일치해야 함)
+	 * 재발급 시에는 DB에서 회원을 확인하므로 탈퇴한 회원은 재발급받을 수 없다.
 	 *
 	 * @param refreshToken
 	 * @return accessToken
@@ -142,7 +205,11 @@ public class JwtProvider {
 		if (!refreshToken.equals(storedRefreshToken)) {
 			throw new BusinessException("RefreshToken이 유효하지 않습니다.", ErrorCode.INVALID_AUTHENTICATION);
 		}
-		return generateToken(username);
+		Member member = memberRepository.findByUsername(username);
+		if (member == null || member.getDeletedAt() != null) {
+			throw new BusinessException("존재하지 않는 회원입니다.", ErrorCode.INVALID_AUTHENTICATION);
+		}
+		return generateToken(username, member.getId());
 	}
 
 	/**
@@ -152,10 +219,7 @@ public class JwtProvider {
 	 * @return 발급 시간
 	 */
 	public LocalDateTime getIssuedAt(String token) {
-		return Jwts.parserBuilder()
-				.setSigningKey(secretKey.getBytes())
-				.build()
-				.parseClaimsJws(token)
+		return jwtParser.parseClaimsJws(token)
 				.getBody()
 				.getIssuedAt()
 				.toInstant()
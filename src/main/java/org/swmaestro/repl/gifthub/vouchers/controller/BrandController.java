@@ -1,16 +1,23 @@
 package org.swmaestro.repl.gifthub.vouchers.controller;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.swmaestro.repl.gifthub.util.ETagGenerator;
 import org.swmaestro.repl.gifthub.vouchers.entity.Brand;
 import org.swmaestro.repl.gifthub.vouchers.service.BrandService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -19,11 +26,23 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Brand", description = "브랜드 관련 API")
 public class BrandController {
 	private final BrandService brandService;
+	@Value("${catalog.http.max-age-seconds:86400}")
+	private long maxAgeSeconds;
 
 	@GetMapping("/{brandId}")
-	@Operation(summary = "브랜드 상세 조회 메서드", description = "클라이언트에서 요청한 브랜드 상세 정보를 조회하기 위한 메서드입니다. 응답으로 brand-entity를 반환합니다.")
-	public Brand readBrand(@PathVariable Long brandId) throws IOException {
-		return brandService.readById(brandId);
+	@Operation(summary = "브랜드 상세 조회 메서드", description = "클라이언트에서 요청한 브랜드 상세 정보를 조회하기 위한 메서드입니다. 응답으로 brand-entity를 반환합니다. If-None-Match가 현재 ETag와 일치하면 본문 없이 304를 반환합니다.")
+	public Brand readBrand(@PathVariable Long brandId, WebRequest webRequest, HttpServletResponse response) throws
+			IOException {
+		Brand brand = brandService.readById(brandId);
+		response.setHeader(HttpHeaders.CACHE_CONTROL,
+				CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic().getHeaderValue());
+		/*
+		본문 직렬화 전에 ETag를 비교하여 변경이 없으면 304로 응답
+		 */
+		if (webRequest.checkNotModified(ETagGenerator.generate(brand.getId(), brand.getName(), brand.getImageUrl()))) {
+			return null;
+		}
+		return brand;
 	}
 }
 
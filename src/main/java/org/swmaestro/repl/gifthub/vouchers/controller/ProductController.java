@@ -1,16 +1,23 @@
 package org.swmaestro.repl.gifthub.vouchers.controller;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.swmaestro.repl.gifthub.util.ETagGenerator;
 import org.swmaestro.repl.gifthub.vouchers.dto.ProductReadResponseDto;
 import org.swmaestro.repl.gifthub.vouchers.service.ProductService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -19,10 +26,23 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Products", description = "상품 관련 API")
 public class ProductController {
 	private final ProductService productService;
+	@Value("${catalog.http.max-age-seconds:86400}")
+	private long maxAgeSeconds;
 
 	@GetMapping("/{productId}")
-	@Operation(summary = "상품 상세 조회 메서드", description = "클라이언트에서 요청한 상품 상세 정보를 조회하기 위한 메서드입니다. 응답으로 product-response-dto를 반환합니다.")
-	public ProductReadResponseDto readProduct(@PathVariable Long productId) throws IOException {
-		return productService.readById(productId);
+	@Operation(summary = "상품 상세 조회 메서드", description = "클라이언트에서 요청한 상품 상세 정보를 조회하기 위한 메서드입니다. 응답으로 product-response-dto를 반환합니다. If-None-Match가 현재 ETag와 일치하면 본문 없이 304를 반환합니다.")
+	public ProductReadResponseDto readProduct(@PathVariable Long productId, WebRequest webRequest,
+			HttpServletResponse response) throws IOException {
+		ProductReadResponseDto product = productService.readById(productId);
+		response.setHeader(HttpHeaders.CACHE_CONTROL,
+				CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic().getHeaderValue());
+		/*
+		본문 직렬화 전에 ETag를 비교하여 변경이 없으면 304로 응답
+		 */
+		if (webRequest.checkNotModified(ETagGenerator.generate(product.getId(), product.getBrandId(), product.getName(),
+				product.getDescription(), product.getIsReusable(), product.getPrice(), product.getImageUrl()))) {
+			return null;
+		}
+		return product;
 	}
 }
@@ -4,20 +4,39 @@ import java.io.IOException;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
-import org.swmaestro.repl.gifthub.util.JwtProvider;
+import org.swmaestro.repl.gifthub.idempotency.IdempotencyService;
+import org.swmaestro.repl.gifthub.security.CustomUserDetails;
+import org.swmaestro.repl.gifthub.util.ETagGenerator;
 import org.swmaestro.repl.gifthub.vouchers.dto.S3FileDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherBatchReadRequestDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherBulkSaveRequestDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherBulkSaveResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherChangesResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherDeleteResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherImageConfirmRequestDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherImageUploadRequestDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherImageUploadResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherPageResponseDto;
 import org.swmaestro.repl.gifthub.vouchers.dto.VoucherReadResponseDto;
 import org.swmaestro.repl.gifthub.vouchers.dto.VoucherSaveRequestDto;
 import org.swmaestro.repl.gifthub.vouchers.dto.VoucherSaveResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherSummaryResponseDto;
 import org.swmaestro.repl.gifthub.vouchers.dto.VoucherUpdateRequestDto;
 import org.swmaestro.repl.gifthub.vouchers.dto.VoucherUseRequestDto;
 import org.swmaestro.repl.gifthub.vouchers.dto.VoucherUseResponseDto;
@@ -26,7 +45,7 @@ import org.swmaestro.repl.gifthub.vouchers.service.VoucherService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -34,11 +53,12 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Tag(name = "Vouchers", description = "기프티콘 관련 API")
 public class VoucherController {
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 	@Value("${cloud.aws.s3.voucher-dir-name}")
 	private String voucherDirName;
 	private final VoucherService voucherService;
+	private final IdempotencyService idempotencyService;
 	private final StorageService storageService;
-	private final JwtProvider jwtProvider;
 
 	@PostMapping("/image")
 	@Operation(summary = "Voucher 이미지 등록 메서드", description = "클라이언트에서 요청한 기프티콘 이미지를 Amazon S3에 저장하기 위한 메서드입니다.")
@@ -46,28 +66,91 @@ public class VoucherController {
 		return storageService.save(voucherDirName, imageFile);
 	}
 
+	@PostMapping("/image/upload-url")
+	@Operation(summary = "Voucher 이미지 업로드 URL 발급 메서드", description = "클라이언트가 기프티콘 이미지를 Amazon S3에 직접 업로드할 수 있는 짧은 유효기간의 presigned PUT URL을 발급하기 위한 메서드입니다. 업로드 시 응답의 headers를 그대로 포함해야 합니다.")
+	public VoucherImageUploadResponseDto createVoucherImageUploadUrl(
+			@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestBody VoucherImageUploadRequestDto voucherImageUploadRequestDto) {
+		return storageService.createUploadUrl(voucherDirName, userDetails.getMemberId(),
+				voucherImageUploadRequestDto.getContentType(), voucherImageUploadRequestDto.getContentLength());
+	}
+
+	@PostMapping("/image/confirm")
+	@Operation(summary = "Voucher 이미지 업로드 확인 메서드", description = "presigned URL로 업로드한 기프티콘 이미지가 Amazon S3에 저장되었는지 확인하기 위한 메서드입니다. 확인된 upload_file_name을 기프티콘 등록 시 image_url로 사용합니다.")
+	public S3FileDto confirmVoucherImage(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestBody VoucherImageConfirmRequestDto voucherImageConfirmRequestDto) {
+		return storageService.confirm(voucherDirName, userDetails.getMemberId(),
+				voucherImageConfirmRequestDto.getUploadFileName());
+	}
+
 	@PostMapping
-	@Operation(summary = "Voucher 등록 메서드", description = "클라이언트에서 요청한 기프티콘 정보를 저장하기 위한 메서드입니다.")
-	public VoucherSaveResponseDto saveVoucher(HttpServletRequest request,
-			@RequestBody VoucherSaveRequestDto voucherSaveRequestDto) throws
-			IOException {
-		String username = jwtProvider.getUsername(jwtProvider.resolveToken(request).substring(7));
-		return voucherService.save(username, voucherSaveRequestDto);
+	@Operation(summary = "Voucher 등록 메서드", description = "클라이언트에서 요청한 기프티콘 정보를 저장하기 위한 메서드입니다. Idempotency-Key 헤더가 같은 재시도 요청에는 처음 저장한 결과를 그대로 반환합니다.")
+	public VoucherSaveResponseDto saveVoucher(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+			@RequestBody VoucherSaveRequestDto voucherSaveRequestDto) throws IOException {
+		return idempotencyService.execute(idempotencyKey, userDetails.getMemberId(), "voucher.save",
+				voucherSaveRequestDto, VoucherSaveResponseDto.class,
+				() -> voucherService.save(userDetails.getMemberId(), voucherSaveRequestDto));
+	}
+
+	@PostMapping("/bulk")
+	@Operation(summary = "Voucher 일괄 등록 메서드", description = "클라이언트에서 요청한 여러 기프티콘 정보를 한 번에 저장하기 위한 메서드입니다. 응답으로 요청 순서대로 저장된 기프티콘 id 목록을 반환합니다.")
+	public VoucherBulkSaveResponseDto saveVouchers(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+			@RequestBody VoucherBulkSaveRequestDto voucherBulkSaveRequestDto) {
+		return idempotencyService.execute(idempotencyKey, userDetails.getMemberId(), "voucher.bulk-save",
+				voucherBulkSaveRequestDto, VoucherBulkSaveResponseDto.class,
+				() -> voucherService.saveAll(userDetails.getMemberId(), voucherBulkSaveRequestDto));
 	}
 
 	@GetMapping("/{voucherId}")
-	@Operation(summary = "Voucher 상세 조회 메서드", description = "클라이언트에서 요청한 기프티콘 상세 정보를 조회하기 위한 메서드입니다.")
-	public VoucherReadResponseDto readVoucher(HttpServletRequest request, @PathVariable Long voucherId) throws
-			IOException {
-		String username = jwtProvider.getUsername(jwtProvider.resolveToken(request).substring(7));
-		return voucherService.read(voucherId, username);
+	@Operation(summary = "Voucher 상세 조회 메서드", description = "클라이언트에서 요청한 기프티콘 상세 정보를 조회하기 위한 메서드입니다. If-None-Match가 현재 ETag와 일치하면 본문 없이 304를 반환합니다.")
+	public VoucherReadResponseDto readVoucher(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable Long voucherId,
+			WebRequest webRequest, HttpServletResponse response) throws IOException {
+		VoucherReadResponseDto voucherReadResponseDto = voucherService.read(voucherId, userDetails.getMemberId());
+		/*
+		회원별 데이터이므로 공유 캐시에는 저장하지 않고, 매 요청마다 ETag로 재검증
+		 */
+		response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+		if (webRequest.checkNotModified(
+				ETagGenerator.generate(voucherReadResponseDto.getId(), voucherReadResponseDto.getVersion()))) {
+			return null;
+		}
+		return voucherReadResponseDto;
+	}
+
+	@PostMapping("/batch-read")
+	@Operation(summary = "Voucher 일괄 상세 조회 메서드", description = "클라이언트에서 요청한 여러 기프티콘의 상세 정보를 한 번에 조회하기 위한 메서드입니다.")
+	public List<VoucherSummaryResponseDto> readVouchers(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestBody VoucherBatchReadRequestDto voucherBatchReadRequestDto) {
+		return voucherService.readAll(userDetails.getMemberId(), voucherBatchReadRequestDto);
 	}
 
 	@GetMapping
 	@Operation(summary = "Voucher 목록 조회 메서드", description = "클라이언트에서 요청한 사용자 별 기프티콘 목록 정보를 조회하기 위한 메서드입니다.")
-	public List<Long> listVoucher(HttpServletRequest request) {
-		String username = jwtProvider.getUsername(jwtProvider.resolveToken(request).substring(7));
-		return voucherService.list(username);
+	public List<Long> listVoucher(@AuthenticationPrincipal CustomUserDetails userDetails) {
+		return voucherService.list(userDetails.getMemberId());
+	}
+
+	@GetMapping("/summaries")
+	@Operation(summary = "Voucher 목록 페이지 조회 메서드", description = "클라이언트에서 요청한 사용자 별 기프티콘 목록을 브랜드/상품 정보와 함께 커서 기반 페이지 단위로 조회하기 위한 메서드입니다.")
+	public VoucherPageResponseDto listVoucherPage(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+		return voucherService.listPage(userDetails.getMemberId(), cursor, size);
+	}
+
+	@GetMapping("/expiring")
+	@Operation(summary = "Voucher 만료 임박 목록 조회 메서드", description = "클라이언트에서 요청한 기간(days일) 이내에 만료되는 사용자의 미사용 기프티콘을 만료일 순으로 조회하기 위한 메서드입니다.")
+	public List<VoucherSummaryResponseDto> listExpiringVoucher(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestParam(required = false) Integer days, @RequestParam(required = false) Integer size) {
+		return voucherService.listExpiring(userDetails.getMemberId(), days, size);
+	}
+
+	@GetMapping("/changes")
+	@Operation(summary = "Voucher 변경분 동기화 메서드", description = "클라이언트에서 전달한 동기화 토큰 이후 생성/수정/사용/삭제된 기프티콘만 조회하기 위한 메서드입니다. 삭제된 기프티콘은 deleted가 true인 항목으로 반환됩니다.")
+	public VoucherChangesResponseDto listVoucherChanges(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestParam(required = false) String since) {
+		return voucherService.listChanges(userDetails.getMemberId(), since);
 	}
 
 	@PatchMapping("/{voucherId}")
@@ -77,11 +160,20 @@ public class VoucherController {
 		return voucherService.update(voucherId, voucherUpdateRequestDto);
 	}
 
+	@DeleteMapping("/{voucherId}")
+	@Operation(summary = "Voucher 삭제 메서드", description = "클라이언트에서 요청한 기프티콘을 삭제(Soft-Delete)하기 위한 메서드입니다.")
+	public VoucherDeleteResponseDto deleteVoucher(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@PathVariable Long voucherId) {
+		return voucherService.delete(userDetails.getMemberId(), voucherId);
+	}
+
 	@PostMapping("/{voucherId}/usage")
-	@Operation(summary = "Voucher 사용 메서드", description = "클라이언트에서 요청한 기프티콘 사용 정보를 저장하기 위한 메서드입니다.")
-	public VoucherUseResponseDto useVoucher(HttpServletRequest request, @PathVariable Long voucherId,
+	@Operation(summary = "Voucher 사용 메서드", description = "클라이언트에서 요청한 기프티콘 사용 정보를 저장하기 위한 메서드입니다. Idempotency-Key 헤더가 같은 재시도 요청에는 처음 처리한 결과를 그대로 반환합니다.")
+	public VoucherUseResponseDto useVoucher(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable Long voucherId,
+			@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
 			@RequestBody VoucherUseRequestDto voucherUseRequestDto) throws IOException {
-		String username = jwtProvider.getUsername(jwtProvider.resolveToken(request).substring(7));
-		return voucherService.use(username, voucherId, voucherUseRequestDto);
+		return idempotencyService.execute(idempotencyKey, userDetails.getMemberId(), "voucher.use",
+				List.of(voucherId, voucherUseRequestDto), VoucherUseResponseDto.class,
+				() -> voucherService.use(userDetails.getMemberId(), voucherId, voucherUseRequestDto));
 	}
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package org.swmaestro.repl.gifthub.vouchers.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class VoucherBatchReadRequestDto {
+	private List<Long> ids;
+
+	@Builder
+	public VoucherBatchReadRequestDto(List<Long> ids) {
+		this.ids = ids;
+	}
+}
@@ -0,0 +1,26 @@
+package org.swmaestro.repl.gifthub.vouchers.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class VoucherBulkSaveRequestDto implements Serializable {
+	private List<VoucherSaveRequestDto> vouchers;
+
+	@Builder
+	public VoucherBulkSaveRequestDto(List<VoucherSaveRequestDto> vouchers) {
+		this.vouchers = vouchers;
+	}
+}
@@ -0,0 +1,57 @@
+package org.swmaestro.repl.gifthub.vouchers.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class VoucherChangeResponseDto {
+	private Long id;
+	private Long productId;
+	private String productName;
+	private Long brandId;
+	private String brandName;
+	private String barcode;
+	private int balance;
+	private String expiresAt;
+	private String imageUrl;
+	/*
+	삭제된 기프티콘(tombstone)이면 true, 클라이언트는 id만 보고 로컬 데이터를 삭제한다.
+	 */
+	private boolean deleted;
+	/*
+	동기화 토큰 계산에만 사용하는 수정 시각(응답 본문에는 포함하지 않음)
+	 */
+	@JsonIgnore
+	private LocalDateTime updatedAt;
+
+	/*
+	JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+	 */
+	public VoucherChangeResponseDto(Long id, Long productId, String productName, Long brandId, String brandName,
+		String barcode, int balance, LocalDate expiresAt, String imageUrl, LocalDateTime deletedAt,
+		LocalDateTime updatedAt) {
+		this.id = id;
+		this.productId = productId;
+		this.productName = productName;
+		this.brandId = brandId;
+		this.brandName = brandName;
+		this.barcode = barcode;
+		this.balance = balance;
+		this.expiresAt = expiresAt.toString();
+		this.imageUrl = imageUrl;
+		this.deleted = deletedAt != null;
+		this.updatedAt = updatedAt;
+	}
+}
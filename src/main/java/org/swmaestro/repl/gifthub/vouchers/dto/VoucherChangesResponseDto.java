@@ -0,0 +1,29 @@
+package org.swmaestro.repl.gifthub.vouchers.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class VoucherChangesResponseDto {
+	private List<VoucherChangeResponseDto> changes;
+	private String syncToken;
+	private boolean hasMore;
+
+	@Builder
+	public VoucherChangesResponseDto(List<VoucherChangeResponseDto> changes, String syncToken, boolean hasMore) {
+		this.changes = changes;
+		this.syncToken = syncToken;
+		this.hasMore = hasMore;
+	}
+}
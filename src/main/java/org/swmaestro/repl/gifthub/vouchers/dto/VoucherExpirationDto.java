@@ -0,0 +1,33 @@
+package org.swmaestro.repl.gifthub.vouchers.dto;
+
+import java.time.LocalDate;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/*
+만료 알림 생성에 필요한 최소한의 기프티콘 정보
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VoucherExpirationDto {
+	private Long id;
+	private Long memberId;
+	private String brandName;
+	private String productName;
+	private LocalDate expiresAt;
+
+	/*
+	JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+	 */
+	public VoucherExpirationDto(Long id, Long memberId, String brandName, String productName, LocalDate expiresAt) {
+		this.id = id;
+		this.memberId = memberId;
+		this.brandName = brandName;
+		this.productName = productName;
+		this.expiresAt = expiresAt;
+	}
+}
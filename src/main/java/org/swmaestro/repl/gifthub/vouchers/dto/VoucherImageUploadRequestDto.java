@@ -0,0 +1,27 @@
+package org.swmaestro.repl.gifthub.vouchers.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class VoucherImageUploadRequestDto {
+	// 업로드할 이미지의 MIME 타입(예: image/jpeg)
+	private String contentType;
+	// 업로드할 이미지의 크기(byte)
+	private Long contentLength;
+
+	@Builder
+	public VoucherImageUploadRequestDto(String contentType, Long contentLength) {
+		this.contentType = contentType;
+		this.contentLength = contentLength;
+	}
+}
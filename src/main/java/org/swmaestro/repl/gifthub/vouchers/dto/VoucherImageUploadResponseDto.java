@@ -0,0 +1,36 @@
+package org.swmaestro.repl.gifthub.vouchers.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class VoucherImageUploadResponseDto {
+	// 이미지를 PUT으로 업로드할 presigned URL
+	private String uploadUrl;
+	// 업로드 확인 및 기프티콘 등록 시 image_url로 전달할 파일 이름
+	private String uploadFileName;
+	// 업로드 요청에 그대로 포함해야 하는 헤더(서명에 포함됨)
+	private Map<String, String> headers;
+	private LocalDateTime expiresAt;
+
+	@Builder
+	public VoucherImageUploadResponseDto(String uploadUrl, String uploadFileName, Map<String, String> headers,
+			LocalDateTime expiresAt) {
+		this.uploadUrl = uploadUrl;
+		this.uploadFileName = uploadFileName;
+		this.headers = headers;
+		this.expiresAt = expiresAt;
+	}
+}
@@ -0,0 +1,29 @@
+package org.swmaestro.repl.gifthub.vouchers.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class VoucherPageResponseDto {
+	private List<VoucherSummaryResponseDto> vouchers;
+	private String nextCursor;
+	private boolean hasNext;
+
+	@Builder
+	public VoucherPageResponseDto(List<VoucherSummaryResponseDto> vouchers, String nextCursor, boolean hasNext) {
+		this.vouchers = vouchers;
+		this.nextCursor = nextCursor;
+		this.hasNext = hasNext;
+	}
+}
@@ -1,5 +1,8 @@
 package org.swmaestro.repl.gifthub.vouchers.dto;
 
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
@@ -21,4 +24,21 @@ public class VoucherReadResponseDto {
 	private Long productId;
 	private String barcode;
 	private String expiresAt;
+	/*
+	ETag 계산에만 사용하는 낙관적 락 버전(응답 본문에는 포함하지 않음)
+	 */
+	@JsonIgnore
+	private Long version;
+
+	/*
+	JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+	 */
+	public VoucherReadResponseDto(Long id, Long productId, String barcode, LocalDate expiresAt,
+			Long version) {
+		this.id = id;
+		this.productId = productId;
+		this.barcode = barcode;
+		this.expiresAt = expiresAt.toString();
+		this.version = version;
+	}
 }
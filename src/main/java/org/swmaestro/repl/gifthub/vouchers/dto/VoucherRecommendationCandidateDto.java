@@ -0,0 +1,36 @@
+package org.swmaestro.repl.gifthub.vouchers.dto;
+
+import java.time.LocalDate;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/*
+사용 추천 대상이 될 수 있는 미사용 기프티콘 정보
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VoucherRecommendationCandidateDto {
+	private Long id;
+	private Long memberId;
+	private Long brandId;
+	private String brandName;
+	private String productName;
+	private LocalDate expiresAt;
+
+	/*
+	JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+	 */
+	public VoucherRecommendationCandidateDto(Long id, Long memberId, Long brandId, String brandName,
+			String productName, LocalDate expiresAt) {
+		this.id = id;
+		this.memberId = memberId;
+		this.brandId = brandId;
+		this.brandName = brandName;
+		this.productName = productName;
+		this.expiresAt = expiresAt;
+	}
+}
@@ -0,0 +1,43 @@
+package org.swmaestro.repl.gifthub.vouchers.dto;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class VoucherSummaryResponseDto {
+	private Long id;
+	private Long productId;
+	private String productName;
+	private Long brandId;
+	private String brandName;
+	private String barcode;
+	private int balance;
+	private String expiresAt;
+	private String imageUrl;
+
+	/*
+	JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+	 */
+	public VoucherSummaryResponseDto(Long id, Long productId, String productName, Long brandId, String brandName,
+		String barcode, int balance, LocalDate expiresAt, String imageUrl) {
+		this.id = id;
+		this.productId = productId;
+		this.productName = productName;
+		this.brandId = brandId;
+		this.brandName = brandName;
+		this.barcode = barcode;
+		this.balance = balance;
+		this.expiresAt = expiresAt.toString();
+		this.imageUrl = imageUrl;
+	}
+}
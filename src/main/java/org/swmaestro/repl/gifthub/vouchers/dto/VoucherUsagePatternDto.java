@@ -0,0 +1,31 @@
+package org.swmaestro.repl.gifthub.vouchers.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/*
+사용 패턴(브랜드, 장소, 시간대) 분석에 필요한 최소한의 사용 내역 정보
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VoucherUsagePatternDto {
+	private Long memberId;
+	private Long brandId;
+	private String place;
+	private LocalDateTime usedAt;
+
+	/*
+	JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+	 */
+	public VoucherUsagePatternDto(Long memberId, Long brandId, String place, LocalDateTime usedAt) {
+		this.memberId = memberId;
+		this.brandId = brandId;
+		this.place = place;
+		this.usedAt = usedAt;
+	}
+}
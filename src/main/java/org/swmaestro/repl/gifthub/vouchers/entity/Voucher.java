@@ -1,17 +1,23 @@
 package org.swmaestro.repl.gifthub.vouchers.entity;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import org.swmaestro.repl.gifthub.auth.entity.Member;
 import org.swmaestro.repl.gifthub.util.BaseTimeEntity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,25 +25,36 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_voucher_member_id_expires_at", columnList = "member_id, expires_at"),
+	@Index(name = "idx_voucher_member_id_updated_at", columnList = "member_id, updated_at"),
+	@Index(name = "idx_voucher_expires_at", columnList = "expires_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Voucher extends BaseTimeEntity {
+	/*
+	IDENTITY 전략은 INSERT마다 키를 받아와야 해서 JDBC batch insert가 불가능하므로,
+	allocationSize 단위로 미리 할당받는 pooled 시퀀스를 사용한다(MySQL에서는 voucher_seq 테이블로 에뮬레이션).
+	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "voucher_seq")
+	@SequenceGenerator(name = "voucher_seq", sequenceName = "voucher_seq", allocationSize = 100)
 	private Long id;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "brand_id", nullable = false)
 	private Brand brand;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "product_id", nullable = false)
 	private Product product;
 
 	@Column(length = 12, nullable = false)
 	private String barcode;
 
+	// 잔액(사용 시 VoucherRepository.debitBalance로 차감)
 	@Column(nullable = false)
 	private int balance;
 
@@ -47,10 +64,16 @@ public class Voucher extends BaseTimeEntity {
 	@Column(length = 200)
 	private String imageUrl;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "member_id", nullable = false)
 	private Member member;
 
+	@Version
+	private Long version;
+
+	// 삭제(Soft-Delete) 시각, 동기화 API에서 tombstone으로 전달
+	private LocalDateTime deletedAt;
+
 	@Builder
 	public Voucher(Long id, Brand brand, Product product, String barcode, int balance, LocalDate expiresAt,
 		String imageUrl, Member member) {
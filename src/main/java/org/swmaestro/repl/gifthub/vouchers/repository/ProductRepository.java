@@ -1,8 +1,18 @@
 package org.swmaestro.repl.gifthub.vouchers.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.swmaestro.repl.gifthub.vouchers.dto.ProductReadResponseDto;
 import org.swmaestro.repl.gifthub.vouchers.entity.Product;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 	Product findByName(String productName);
+
+	@Query("select new org.swmaestro.repl.gifthub.vouchers.dto.ProductReadResponseDto("
+			+ "p.id, p.brand.id, p.name, p.description, p.isReusable, p.price, p.imageUrl) "
+			+ "from Product p where p.id = :id")
+	Optional<ProductReadResponseDto> findReadResponseById(@Param("id") Long id);
 }
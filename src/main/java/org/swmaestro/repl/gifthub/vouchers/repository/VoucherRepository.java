@@ -1,11 +1,132 @@
 package org.swmaestro.repl.gifthub.vouchers.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherChangeResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherExpirationDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherReadResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherRecommendationCandidateDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherSummaryResponseDto;
 import org.swmaestro.repl.gifthub.vouchers.entity.Voucher;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface VoucherRepository extends JpaRepository<Voucher, Long> {
-	List<Voucher> findAllByMemberUsername(String username);
+	List<Voucher> findAllByMemberIdAndDeletedAtIsNull(Long memberId);
+
+	Optional<Voucher> findByIdAndDeletedAtIsNull(Long id);
+
+	Optional<Voucher> findByIdAndMemberIdAndDeletedAtIsNull(Long id, Long memberId);
+
+	boolean existsByIdAndDeletedAtIsNull(Long id);
+
+	@Query("select new org.swmaestro.repl.gifthub.vouchers.dto.VoucherReadResponseDto("
+			+ "v.id, v.product.id, v.barcode, v.expiresAt, v.version) "
+			+ "from Voucher v where v.id = :id and v.member.id = :memberId and v.deletedAt is null")
+	Optional<VoucherReadResponseDto> findReadResponseByIdAndMemberId(@Param("id") Long id,
+			@Param("memberId") Long memberId);
+
+	/*
+	(expiresAt, id) 기준 keyset 페이지네이션 - 첫 페이지
+	 */
+	@Query("select new org.swmaestro.repl.gifthub.vouchers.dto.VoucherSummaryResponseDto("
+			+ "v.id, p.id, p.name, b.id, b.name, v.barcode, v.balance, v.expiresAt, v.imageUrl) "
+			+ "from Voucher v join v.product p join v.brand b "
+			+ "where v.member.id = :memberId and v.deletedAt is null "
+			+ "order by v.expiresAt, v.id")
+	List<VoucherSummaryResponseDto> findSummariesByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+	/*
+	(expiresAt, id) 기준 keyset 페이지네이션 - 커서 이후 페이지
+	 */
+	@Query("select new org.swmaestro.repl.gifthub.vouchers.dto.VoucherSummaryResponseDto("
+			+ "v.id, p.id, p.name, b.id, b.name, v.barcode, v.balance, v.expiresAt, v.imageUrl) "
+			+ "from Voucher v join v.product p join v.brand b "
+			+ "where v.member.id = :memberId and v.deletedAt is null "
+			+ "and (v.expiresAt > :expiresAt or (v.expiresAt = :expiresAt and v.id > :id)) "
+			+ "order by v.expiresAt, v.id")
+	List<VoucherSummaryResponseDto> findSummariesByMemberIdAfter(@Param("memberId") Long memberId,
+			@Param("expiresAt") LocalDate expiresAt, @Param("id") Long id, Pageable pageable);
+
+	/*
+	유효기간이 [from, to] 범위인 미사용(잔액이 남은) 기프티콘을 만료일 순으로 조회한다.
+	(member_id, expires_at) 인덱스 범위 스캔으로 처리된다.
+	 */
+	@Query("select new org.swmaestro.repl.gifthub.vouchers.dto.VoucherSummaryResponseDto("
+			+ "v.id, p.id, p.name, b.id, b.name, v.barcode, v.balance, v.expiresAt, v.imageUrl) "
+			+ "from Voucher v join v.product p join v.brand b "
+			+ "where v.member.id = :memberId and v.expiresAt between :from and :to "
+			+ "and v.balance > 0 and v.deletedAt is null "
+			+ "order by v.expiresAt, v.id")
+	List<VoucherSummaryResponseDto> findExpiringSummariesByMemberId(@Param("memberId") Long memberId,
+			@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+	@Query("select new org.swmaestro.repl.gifthub.vouchers.dto.VoucherSummaryResponseDto("
+			+ "v.id, p.id, p.name, b.id, b.name, v.barcode, v.balance, v.expiresAt, v.imageUrl) "
+			+ "from Voucher v join v.product p join v.brand b "
+			+ "where v.member.id = :memberId and v.id in :ids and v.deletedAt is null")
+	List<VoucherSummaryResponseDto> findSummariesByMemberIdAndIdIn(@Param("memberId") Long memberId,
+			@Param("ids") Collection<Long> ids);
+
+	long countByIdInAndDeletedAtIsNull(Collection<Long> ids);
+
+	/*
+	특정 날짜에 만료되는 미사용 기프티콘을 id 기준 keyset 청크로 조회한다.
+	(expires_at) 인덱스(암묵적으로 (expires_at, id))의 범위 스캔으로 처리된다.
+	 */
+	@Query("select new org.swmaestro.repl.gifthub.vouchers.dto.VoucherExpirationDto("
+			+ "v.id, v.member.id, b.name, p.name, v.expiresAt) "
+			+ "from Voucher v join v.product p join v.brand b "
+			+ "where v.expiresAt = :expiresAt and v.id > :id and v.balance > 0 and v.deletedAt is null "
+			+ "order by v.id")
+	List<VoucherExpirationDto> findExpirationsByExpiresAtAfterId(@Param("expiresAt") LocalDate expiresAt,
+			@Param("id") Long id, Pageable pageable);
+
+	/*
+	회원들의 사용 가능한(잔액이 남고 유효기간이 지나지 않은) 기프티콘을 조회한다.
+	(member_id, expires_at) 인덱스 범위 스캔으로 처리된다.
+	 */
+	@Query("select new org.swmaestro.repl.gifthub.vouchers.dto.VoucherRecommendationCandidateDto("
+			+ "v.id, v.member.id, b.id, b.name, p.name, v.expiresAt) "
+			+ "from Voucher v join v.product p join v.brand b "
+			+ "where v.member.id in :memberIds and v.expiresAt >= :today and v.balance > 0 and v.deletedAt is null")
+	List<VoucherRecommendationCandidateDto> findRecommendationCandidatesByMemberIdIn(
+			@Param("memberIds") Collection<Long> memberIds, @Param("today") LocalDate today);
+
+	/*
+	(updatedAt, id) 기준으로 동기화 토큰 이후 변경(생성/수정/사용/삭제)된 기프티콘을 조회한다.
+	삭제된 기프티콘도 tombstone으로 포함하며, 아직 커밋되지 않았을 수 있는 최근 변경은 :until로 제외한다.
+	 */
+	@Query("select new org.swmaestro.repl.gifthub.vouchers.dto.VoucherChangeResponseDto("
+			+ "v.id, p.id, p.name, b.id, b.name, v.barcode, v.balance, v.expiresAt, v.imageUrl, v.deletedAt, "
+			+ "v.updatedAt) "
+			+ "from Voucher v join v.product p join v.brand b "
+			+ "where v.member.id = :memberId "
+			+ "and (v.updatedAt > :updatedAt or (v.updatedAt = :updatedAt and v.id > :id)) "
+			+ "and v.updatedAt < :until "
+			+ "order by v.updatedAt, v.id")
+	List<VoucherChangeResponseDto> findChangesByMemberIdAfter(@Param("memberId") Long memberId,
+			@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id, @Param("until") LocalDateTime until,
+			Pageable pageable);
+
+	/*
+	잔액이 충분하고 유효기간이 지나지 않은 경우에만 잔액을 차감한다.
+	반환값이 0이면 조건을 만족하지 않아 차감되지 않은 것이다.
+	 */
+	@Modifying
+	@Query("update Voucher v set v.balance = v.balance - :amount, v.version = v.version + 1, v.updatedAt = :now "
+			+ "where v.id = :id and v.balance >= :amount and v.expiresAt >= :today and v.deletedAt is null")
+	int debitBalance(@Param("id") Long id, @Param("amount") int amount, @Param("today") LocalDate today,
+			@Param("now") LocalDateTime now);
+
+	@Query("select v.balance from Voucher v where v.id = :id")
+	int findBalanceById(@Param("id") Long id);
 
 }
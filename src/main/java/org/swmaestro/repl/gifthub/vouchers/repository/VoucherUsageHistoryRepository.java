@@ -1,10 +1,37 @@
 package org.swmaestro.repl.gifthub.vouchers.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherUsagePatternDto;
 import org.swmaestro.repl.gifthub.vouchers.entity.VoucherUsageHistory;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface VoucherUsageHistoryRepository extends JpaRepository<VoucherUsageHistory, Long> {
 	List<VoucherUsageHistory> findAllByVoucherId(Long voucherId);
+
+	@Query("select max(h.id) from VoucherUsageHistory h")
+	Optional<Long> findMaxId();
+
+	/*
+	id가 (after, upto] 범위인 사용 내역, 즉 마지막 처리 이후 새로 사용한 회원 id를 조회한다.
+	PK 범위 스캔으로 처리되므로 전체 회원 수가 아닌 새 사용 내역 수에 비례한다.
+	 */
+	@Query("select distinct h.member.id from VoucherUsageHistory h where h.id > :after and h.id <= :upto")
+	List<Long> findMemberIdsByIdBetween(@Param("after") Long after, @Param("upto") Long upto);
+
+	/*
+	회원들의 since 이후 사용 내역을 사용 패턴 분석에 필요한 컬럼만 조회한다.
+	(member_id, created_at) 인덱스 범위 스캔으로 처리된다.
+	 */
+	@Query("select new org.swmaestro.repl.gifthub.vouchers.dto.VoucherUsagePatternDto("
+			+ "h.member.id, v.brand.id, h.place, h.createdAt) "
+			+ "from VoucherUsageHistory h join h.voucher v "
+			+ "where h.member.id in :memberIds and h.createdAt >= :since")
+	List<VoucherUsagePatternDto> findUsagePatternsByMemberIdIn(@Param("memberIds") Collection<Long> memberIds,
+			@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,102 @@
+package org.swmaestro.repl.gifthub.vouchers.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.swmaestro.repl.gifthub.vouchers.dto.ProductReadResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.entity.Brand;
+import org.swmaestro.repl.gifthub.vouchers.entity.Product;
+import org.swmaestro.repl.gifthub.vouchers.repository.BrandRepository;
+import org.swmaestro.repl.gifthub.vouchers.repository.ProductRepository;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 브랜드/상품 조회용 read-through 캐시
+ * 만료 전에 백그라운드로 다시 읽어오며(refresh-ahead), 캐시 적중률은 catalog.* 메트릭으로 기록된다.
+ * 존재하지 않는 이름/id는 캐시하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.snapshot.enabled", havingValue = "false", matchIfMissing = true)
+public class CatalogCache implements CatalogReader {
+	private final LoadingCache<String, Brand> brandsByName;
+	private final LoadingCache<Long, Brand> brandsById;
+	private final LoadingCache<String, Product> productsByName;
+	private final LoadingCache<Long, ProductReadResponseDto> productsById;
+
+	public CatalogCache(BrandRepository brandRepository, ProductRepository productRepository,
+			MeterRegistry meterRegistry,
+			@Value("${catalog.cache.maximum-size:1000}") long maximumSize,
+			@Value("${catalog.cache.expire-after-write-seconds:3600}") long expireAfterWriteSeconds,
+			@Value("${catalog.cache.refresh-after-write-seconds:600}") long refreshAfterWriteSeconds) {
+		Caffeine<Object, Object> builder = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+				.refreshAfterWrite(Duration.ofSeconds(refreshAfterWriteSeconds))
+				.recordStats();
+
+		this.brandsByName = build(builder, brandRepository::findByName, meterRegistry, "catalog.brand.name");
+		this.brandsById = build(builder, id -> brandRepository.findById(id).orElse(null), meterRegistry,
+				"catalog.brand.id");
+		this.productsByName = build(builder, productRepository::findByName, meterRegistry, "catalog.product.name");
+		this.productsById = build(builder, id -> productRepository.findReadResponseById(id).orElse(null),
+				meterRegistry, "catalog.product.id");
+	}
+
+	private static <K, V> LoadingCache<K, V> build(Caffeine<Object, Object> builder, CacheLoader<K, V> loader,
+			MeterRegistry meterRegistry, String cacheName) {
+		LoadingCache<K, V> cache = builder.build(loader);
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+		return cache;
+	}
+
+	@Override
+	public Brand getBrand(String name) {
+		return name == null ? null : brandsByName.get(name);
+	}
+
+	@Override
+	public Brand getBrand(Long id) {
+		return brandsById.get(id);
+	}
+
+	@Override
+	public Product getProduct(String name) {
+		return name == null ? null : productsByName.get(name);
+	}
+
+	@Override
+	public ProductReadResponseDto getProduct(Long id) {
+		return productsById.get(id);
+	}
+
+	/*
+	브랜드 정보가 변경되었을 때 호출한다.
+	 */
+	public void invalidateBrand(Brand brand) {
+		brandsByName.invalidate(brand.getName());
+		brandsById.invalidate(brand.getId());
+	}
+
+	/*
+	상품 정보가 변경되었을 때 호출한다.
+	 */
+	public void invalidateProduct(Product product) {
+		productsByName.invalidate(product.getName());
+		productsById.invalidate(product.getId());
+	}
+
+	public void invalidateAll() {
+		brandsByName.invalidateAll();
+		brandsById.invalidateAll();
+		productsByName.invalidateAll();
+		productsById.invalidateAll();
+	}
+}
@@ -0,0 +1,20 @@
+package org.swmaestro.repl.gifthub.vouchers.service;
+
+import org.swmaestro.repl.gifthub.vouchers.dto.ProductReadResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.entity.Brand;
+import org.swmaestro.repl.gifthub.vouchers.entity.Product;
+
+/**
+ * 브랜드/상품 조회 인터페이스
+ * catalog.snapshot.enabled 설정에 따라 CatalogCache 또는 CatalogSnapshot이 사용된다.
+ * 존재하지 않는 경우 null을 반환한다.
+ */
+public interface CatalogReader {
+	Brand getBrand(String name);
+
+	Brand getBrand(Long id);
+
+	Product getProduct(String name);
+
+	ProductReadResponseDto getProduct(Long id);
+}
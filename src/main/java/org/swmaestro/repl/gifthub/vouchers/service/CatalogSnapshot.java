@@ -0,0 +1,94 @@
+package org.swmaestro.repl.gifthub.vouchers.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.swmaestro.repl.gifthub.vouchers.dto.ProductReadResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.entity.Brand;
+import org.swmaestro.repl.gifthub.vouchers.entity.Product;
+import org.swmaestro.repl.gifthub.vouchers.repository.BrandRepository;
+import org.swmaestro.repl.gifthub.vouchers.repository.ProductRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 브랜드/상품 전체를 메모리에 올려두는 불변 스냅샷
+ * 애플리케이션 시작 시 적재하고, 주기적으로 새 스냅샷을 만들어 원자적으로 교체한다.
+ * 갱신에 실패하면 기존 스냅샷을 그대로 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "catalog.snapshot.enabled", havingValue = "true")
+public class CatalogSnapshot implements CatalogReader {
+	private final BrandRepository brandRepository;
+	private final ProductRepository productRepository;
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+	@PostConstruct
+	public void load() {
+		snapshot.set(createSnapshot());
+	}
+
+	@Scheduled(fixedDelayString = "${catalog.snapshot.refresh-interval-millis:300000}",
+			initialDelayString = "${catalog.snapshot.refresh-interval-millis:300000}")
+	public void refresh() {
+		try {
+			snapshot.set(createSnapshot());
+		} catch (RuntimeException e) {
+			log.error("카탈로그 스냅샷 갱신 실패, 기존 스냅샷을 유지합니다.", e);
+		}
+	}
+
+	private Snapshot createSnapshot() {
+		List<Brand> brands = brandRepository.findAll();
+		List<Product> products = productRepository.findAll();
+
+		Map<String, Brand> brandsByName = new HashMap<>();
+		Map<Long, Brand> brandsById = new HashMap<>();
+		for (Brand brand : brands) {
+			brandsByName.put(brand.getName(), brand);
+			brandsById.put(brand.getId(), brand);
+		}
+		Map<String, Product> productsByName = new HashMap<>();
+		Map<Long, ProductReadResponseDto> productsById = new HashMap<>();
+		for (Product product : products) {
+			productsByName.put(product.getName(), product);
+			productsById.put(product.getId(), ProductService.mapToDto(product));
+		}
+		log.info("카탈로그 스냅샷 적재 완료 - brand: {}, product: {}", brands.size(), products.size());
+		return new Snapshot(Map.copyOf(brandsByName), Map.copyOf(brandsById), Map.copyOf(productsByName),
+				Map.copyOf(productsById));
+	}
+
+	@Override
+	public Brand getBrand(String name) {
+		return name == null ? null : snapshot.get().brandsByName().get(name);
+	}
+
+	@Override
+	public Brand getBrand(Long id) {
+		return snapshot.get().brandsById().get(id);
+	}
+
+	@Override
+	public Product getProduct(String name) {
+		return name == null ? null : snapshot.get().productsByName().get(name);
+	}
+
+	@Override
+	public ProductReadResponseDto getProduct(Long id) {
+		return snapshot.get().productsById().get(id);
+	}
+
+	private record Snapshot(Map<String, Brand> brandsByName, Map<Long, Brand> brandsById,
+							Map<String, Product> productsByName, Map<Long, ProductReadResponseDto> productsById) {
+	}
+}
@@ -2,27 +2,60 @@ package org.swmaestro.repl.gifthub.vouchers.service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.swmaestro.repl.gifthub.exception.BusinessException;
+import org.swmaestro.repl.gifthub.exception.ErrorCode;
 import org.swmaestro.repl.gifthub.vouchers.dto.S3FileDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherImageUploadResponseDto;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class StorageService {
+	// 업로드 가능한 이미지 MIME 타입과 확장자
+	private static final Map<String, String> IMAGE_EXTENSIONS = Map.of(
+			"image/jpeg", "jpg",
+			"image/png", "png",
+			"image/webp", "webp",
+			"image/heic", "heic");
+	private static final Pattern DIRECT_UPLOAD_FILE_NAME = Pattern.compile(
+			"\\d+/[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\.(jpg|png|webp|heic)");
 	@Value("${cloud.aws.s3.bucket}")
 	private String bucketName;
 	@Value("${cloud.aws.region.static}")
 	private String bucketRegion;
+	@Value("${cloud.aws.s3.presigned-url.expiration-seconds:300}")
+	private long presignedUrlExpirationSeconds;
+	@Value("${cloud.aws.s3.presigned-url.max-content-length:10485760}")
+	private long maxContentLength;
 	private final AmazonS3Client amazonS3Client;
+	// 업로드가 확인된 객체 키, 기프티콘 등록 시 S3를 다시 조회하지 않기 위해 사용한다.
+	private final Cache<String, Boolean> confirmedKeys = Caffeine.newBuilder()
+			.maximumSize(10_000)
+			.expireAfterWrite(Duration.ofHours(1))
+			.build();
 
 	public S3FileDto save(String dirName, MultipartFile multipartFile) throws IOException {
 		String originalFileName = multipartFile.getOriginalFilename();
@@ -44,6 +77,84 @@ public class StorageService {
 			.build();
 	}
 
+	/*
+	클라이언트가 S3로 직접 업로드할 수 있는 presigned PUT URL 발급 메서드
+	객체 키는 서버가 "{dirName}/{memberId}/{uuid}.{확장자}"로 정하고, Content-Type과 Content-Length를 서명에 포함하여
+	요청한 형식과 크기가 아니면 S3가 업로드를 거부한다. 이미지가 WAS를 거치지 않으므로 요청 스레드와 대역폭을 쓰지 않는다.
+	 */
+	public VoucherImageUploadResponseDto createUploadUrl(String dirName, Long memberId, String contentType,
+			Long contentLength) {
+		String ext = contentType == null ? null : IMAGE_EXTENSIONS.get(contentType);
+		if (ext == null) {
+			throw new BusinessException("지원하지 않는 이미지 형식 입니다.", ErrorCode.INVALID_INPUT_VALUE);
+		}
+		if (contentLength == null || contentLength <= 0 || contentLength > maxContentLength) {
+			throw new BusinessException("이미지 크기는 최대 " + maxContentLength + "byte 입니다.",
+					ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		String uploadFileName = memberId + "/" + UUID.randomUUID() + "." + ext;
+		LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(presignedUrlExpirationSeconds);
+		GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName,
+				dirName + "/" + uploadFileName, HttpMethod.PUT)
+				.withExpiration(Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant()))
+				.withContentType(contentType);
+		request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+
+		Map<String, String> headers = new LinkedHashMap<>();
+		headers.put(Headers.CONTENT_TYPE, contentType);
+		headers.put(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+		return VoucherImageUploadResponseDto.builder()
+				.uploadUrl(amazonS3Client.generatePresignedUrl(request).toString())
+				.uploadFileName(uploadFileName)
+				.headers(headers)
+				.expiresAt(expiresAt)
+				.build();
+	}
+
+	/*
+	presigned URL로 업로드한 이미지 확인 메서드
+	요청한 회원이 발급받은 파일 이름인지, S3에 객체가 있고 형식과 크기가 허용 범위인지 HEAD 요청으로 확인한다.
+	 */
+	public S3FileDto confirm(String dirName, Long memberId, String uploadFileName) {
+		if (uploadFileName == null || !DIRECT_UPLOAD_FILE_NAME.matcher(uploadFileName).matches()
+				|| !uploadFileName.startsWith(memberId + "/")) {
+			throw new BusinessException("유효하지 않은 이미지 파일 이름 입니다.", ErrorCode.INVALID_INPUT_VALUE);
+		}
+		String keyName = dirName + "/" + uploadFileName;
+		if (confirmedKeys.getIfPresent(keyName) == null) {
+			ObjectMetadata metadata;
+			try {
+				metadata = amazonS3Client.getObjectMetadata(bucketName, keyName);
+			} catch (AmazonS3Exception e) {
+				if (e.getStatusCode() == 404) {
+					throw new BusinessException("업로드되지 않은 이미지 입니다.", ErrorCode.NOT_FOUND_RESOURCE);
+				}
+				throw e;
+			}
+			if (!IMAGE_EXTENSIONS.containsKey(metadata.getContentType())
+					|| metadata.getContentLength() > maxContentLength) {
+				amazonS3Client.deleteObject(bucketName, keyName);
+				throw new BusinessException("지원하지 않는 이미지 입니다.", ErrorCode.INVALID_INPUT_VALUE);
+			}
+			confirmedKeys.put(keyName, Boolean.TRUE);
+		}
+		return S3FileDto.builder()
+				.uploadFileName(uploadFileName)
+				.build();
+	}
+
+	/*
+	기프티콘이 참조할 이미지 확인 메서드
+	presigned URL로 업로드한 이미지("{memberId}/{uuid}.{확장자}")는 업로드 확인을 거치고,
+	기존 방식(POST /vouchers/image)으로 WAS가 저장한 이미지는 그대로 사용한다.
+	 */
+	public void requireUploaded(String dirName, Long memberId, String uploadFileName) {
+		if (uploadFileName != null && uploadFileName.contains("/")) {
+			confirm(dirName, memberId, uploadFileName);
+		}
+	}
+
 	public String getBucketAddress(String dirName) {
 		return "https://" + bucketName + ".s3." + bucketRegion + ".amazonaws.com/" + dirName + "/";
 	}
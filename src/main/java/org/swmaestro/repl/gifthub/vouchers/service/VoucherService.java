@@ -1,55 +1,100 @@
 package org.swmaestro.repl.gifthub.vouchers.service;
 
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.swmaestro.repl.gifthub.auth.entity.Member;
 import org.swmaestro.repl.gifthub.auth.service.MemberService;
 import org.swmaestro.repl.gifthub.exception.BusinessException;
 import org.swmaestro.repl.gifthub.exception.ErrorCode;
 import org.swmaestro.repl.gifthub.util.DateConverter;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherBatchReadRequestDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherBulkSaveRequestDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherBulkSaveResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherChangeResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherChangesResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherDeleteResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherPageResponseDto;
 import org.swmaestro.repl.gifthub.vouchers.dto.VoucherReadResponseDto;
 import org.swmaestro.repl.gifthub.vouchers.dto.VoucherSaveRequestDto;
 import org.swmaestro.repl.gifthub.vouchers.dto.VoucherSaveResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherSummaryResponseDto;
 import org.swmaestro.repl.gifthub.vouchers.dto.VoucherUpdateRequestDto;
 import org.swmaestro.repl.gifthub.vouchers.dto.VoucherUseRequestDto;
 import org.swmaestro.repl.gifthub.vouchers.dto.VoucherUseResponseDto;
+import org.swmaestro.repl.gifthub.vouchers.entity.Brand;
+import org.swmaestro.repl.gifthub.vouchers.entity.Product;
 import org.swmaestro.repl.gifthub.vouchers.entity.Voucher;
 import org.swmaestro.repl.gifthub.vouchers.entity.VoucherUsageHistory;
 import org.swmaestro.repl.gifthub.vouchers.repository.VoucherRepository;
 import org.swmaestro.repl.gifthub.vouchers.repository.VoucherUsageHistoryRepository;
 
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class VoucherService {
+	private static final LocalDateTime SYNC_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
 	@Value("${cloud.aws.s3.voucher-dir-name}")
 	private String voucherDirName;
+	@Value("${voucher.page.default-size:20}")
+	private int defaultPageSize;
+	@Value("${voucher.page.max-size:100}")
+	private int maxPageSize;
+	@Value("${voucher.batch-read.max-size:100}")
+	private int maxBatchReadSize;
+	@Value("${voucher.expiring.default-days:7}")
+	private int defaultExpiringDays;
+	@Value("${voucher.expiring.max-days:365}")
+	private int maxExpiringDays;
+	@Value("${voucher.bulk-save.max-size:500}")
+	private int maxBulkSaveSize;
+	@Value("${voucher.sync.page-size:200}")
+	private int syncPageSize;
+	@Value("${voucher.sync.safety-lag-millis:2000}")
+	private long syncSafetyLagMillis;
 	private final StorageService storageService;
 	private final BrandService brandService;
 	private final ProductService productService;
 	private final VoucherRepository voucherRepository;
 	private final MemberService memberService;
 	private final VoucherUsageHistoryRepository voucherUsageHistoryRepository;
+	private final TransactionTemplate transactionTemplate;
 
 	/*
 		기프티콘 저장 메서드
 	 */
-	public VoucherSaveResponseDto save(String username, VoucherSaveRequestDto voucherSaveRequestDto) throws
-			IOException {
+	public VoucherSaveResponseDto save(Long memberId, VoucherSaveRequestDto voucherSaveRequestDto) {
+		storageService.requireUploaded(voucherDirName, memberId, voucherSaveRequestDto.getImageUrl());
+		Product product = productService.read(voucherSaveRequestDto.getProductName());
 		Voucher voucher = Voucher.builder()
 				.brand(brandService.read(voucherSaveRequestDto.getBrandName()))
-				.product(productService.read(voucherSaveRequestDto.getProductName()))
+				.product(product)
 				.barcode(voucherSaveRequestDto.getBarcode())
+				.balance(product == null ? 0 : product.getPrice())
 				.expiresAt(DateConverter.stringToLocalDate(voucherSaveRequestDto.getExpiresAt()))
 				.imageUrl(storageService.getBucketAddress(voucherDirName) + voucherSaveRequestDto.getImageUrl())
-				.member(memberService.read(username))
+				.member(memberService.getReference(memberId))
 				.build();
 
 		return VoucherSaveResponseDto.builder()
@@ -57,29 +102,118 @@ public class VoucherService {
 				.build();
 	}
 
+	/*
+	기프티콘 일괄 저장 메서드
+	브랜드/상품은 요청 내 이름별로 한 번만 조회하고, 한 트랜잭션에서 저장하여 커밋 시 JDBC batch insert로 전송한다.
+	이미지 업로드 확인(S3 요청)은 커넥션을 잡지 않도록 트랜잭션 시작 전에 서로 다른 이미지별로 한 번씩 처리한다.
+	 */
+	public VoucherBulkSaveResponseDto saveAll(Long memberId, VoucherBulkSaveRequestDto voucherBulkSaveRequestDto) {
+		List<VoucherSaveRequestDto> voucherSaveRequestDtos = voucherBulkSaveRequestDto.getVouchers();
+		if (voucherSaveRequestDtos == null || voucherSaveRequestDtos.isEmpty()) {
+			throw new BusinessException("등록할 상품권을 입력해주세요.", ErrorCode.INVALID_INPUT_VALUE);
+		}
+		if (voucherSaveRequestDtos.size() > maxBulkSaveSize) {
+			throw new BusinessException("한 번에 등록할 수 있는 상품권은 최대 " + maxBulkSaveSize + "개 입니다.",
+					ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		voucherSaveRequestDtos.stream()
+				.map(VoucherSaveRequestDto::getImageUrl)
+				.distinct()
+				.forEach(imageUrl -> storageService.requireUploaded(voucherDirName, memberId, imageUrl));
+
+		return transactionTemplate.execute(status -> persistAll(memberId, voucherSaveRequestDtos));
+	}
+
+	/*
+	업로드 확인이 끝난 기프티콘 목록을 한 트랜잭션에서 저장한다.
+	 */
+	private VoucherBulkSaveResponseDto persistAll(Long memberId, List<VoucherSaveRequestDto> voucherSaveRequestDtos) {
+		Map<String, Brand> brands = new HashMap<>();
+		Map<String, Product> products = new HashMap<>();
+		Member member = memberService.getReference(memberId);
+		String bucketAddress = storageService.getBucketAddress(voucherDirName);
+
+		List<Voucher> vouchers = new ArrayList<>(voucherSaveRequestDtos.size());
+		for (VoucherSaveRequestDto voucherSaveRequestDto : voucherSaveRequestDtos) {
+			Brand brand = brands.computeIfAbsent(voucherSaveRequestDto.getBrandName(), brandService::read);
+			if (brand == null) {
+				throw new BusinessException("존재하지 않는 브랜드 입니다.", ErrorCode.NOT_FOUND_RESOURCE);
+			}
+			Product product = products.computeIfAbsent(voucherSaveRequestDto.getProductName(), productService::read);
+			if (product == null) {
+				throw new BusinessException("존재하지 않는 상품 입니다.", ErrorCode.NOT_FOUND_RESOURCE);
+			}
+			vouchers.add(Voucher.builder()
+					.brand(brand)
+					.product(product)
+					.barcode(voucherSaveRequestDto.getBarcode())
+					.balance(product.getPrice())
+					.expiresAt(DateConverter.stringToLocalDate(voucherSaveRequestDto.getExpiresAt()))
+					.imageUrl(bucketAddress + voucherSaveRequestDto.getImageUrl())
+					.member(member)
+					.build());
+		}
+
+		// 시퀀스에서 미리 할당받은 id를 사용하므로 INSERT는 커밋 시점에 batch로 전송된다.
+		List<Long> ids = voucherRepository.saveAll(vouchers)
+				.stream()
+				.map(Voucher::getId)
+				.collect(Collectors.toList());
+
+		return VoucherBulkSaveResponseDto.builder()
+				.ids(ids)
+				.build();
+	}
+
 	/*
 	기프티콘 상세 조회 메서드
 	 */
-	public VoucherReadResponseDto read(Long id, String username) {
-		Optional<Voucher> voucher = voucherRepository.findById(id);
-		List<Voucher> vouchers = voucherRepository.findAllByMemberUsername(username);
+	public VoucherReadResponseDto read(Long id, Long memberId) {
+		Optional<VoucherReadResponseDto> voucherReadResponseDto = voucherRepository.findReadResponseByIdAndMemberId(id,
+				memberId);
+		if (voucherReadResponseDto.isEmpty()) {
+			throw accessError(id, "상품권을 조회할 권한이 없습니다.");
+		}
+		return voucherReadResponseDto.get();
+	}
 
-		if (voucher.isEmpty()) {
-			throw new BusinessException("존재하지 않는 상품권 입니다.", ErrorCode.NOT_FOUND_RESOURCE);
+	/*
+	기프티콘 일괄 상세 조회 메서드
+	요청한 기프티콘 수와 상관없이 소유권 검증과 조회를 고정된 수의 쿼리로 처리한다.
+	 */
+	public List<VoucherSummaryResponseDto> readAll(Long memberId, VoucherBatchReadRequestDto voucherBatchReadRequestDto) {
+		if (voucherBatchReadRequestDto.getIds() == null || voucherBatchReadRequestDto.getIds().isEmpty()) {
+			throw new BusinessException("조회할 상품권을 입력해주세요.", ErrorCode.INVALID_INPUT_VALUE);
+		}
+		Set<Long> ids = new LinkedHashSet<>(voucherBatchReadRequestDto.getIds());
+		if (ids.size() > maxBatchReadSize) {
+			throw new BusinessException("한 번에 조회할 수 있는 상품권은 최대 " + maxBatchReadSize + "개 입니다.",
+					ErrorCode.INVALID_INPUT_VALUE);
 		}
-		if (!vouchers.contains(voucher.get())) {
+
+		Map<Long, VoucherSummaryResponseDto> vouchers = voucherRepository.findSummariesByMemberIdAndIdIn(memberId, ids)
+				.stream()
+				.collect(Collectors.toMap(VoucherSummaryResponseDto::getId, Function.identity()));
+
+		if (vouchers.size() != ids.size()) {
+			if (voucherRepository.countByIdInAndDeletedAtIsNull(ids) != ids.size()) {
+				throw new BusinessException("존재하지 않는 상품권 입니다.", ErrorCode.NOT_FOUND_RESOURCE);
+			}
 			throw new BusinessException("상품권을 조회할 권한이 없습니다.", ErrorCode.ACCESS_DENIED);
 		}
 
-		VoucherReadResponseDto voucherReadResponseDto = mapToDto(voucher.get());
-		return voucherReadResponseDto;
+		// 요청한 순서대로 반환한다.
+		return ids.stream()
+				.map(vouchers::get)
+				.collect(Collectors.toList());
 	}
 
 	/*
 	사용자 별 기프티콘 목록 조회 메서드
 	 */
-	public List<Long> list(String username) {
-		List<Voucher> vouchers = voucherRepository.findAllByMemberUsername(username);
+	public List<Long> list(Long memberId) {
+		List<Voucher> vouchers = voucherRepository.findAllByMemberIdAndDeletedAtIsNull(memberId);
 		if (vouchers == null) {
 			throw new BusinessException("존재하지 않는 사용자 입니다.", ErrorCode.NOT_FOUND_RESOURCE);
 		}
@@ -90,11 +224,100 @@ public class VoucherService {
 		return voucherIdList;
 	}
 
+	/*
+	사용자 별 기프티콘 목록 페이지 조회 메서드
+	(expiresAt, id) 기준 keyset 페이지네이션으로 브랜드/상품 정보를 포함하여 한 번의 쿼리로 조회한다.
+	 */
+	public VoucherPageResponseDto listPage(Long memberId, String cursor, Integer size) {
+		int pageSize = size == null ? defaultPageSize : Math.min(Math.max(size, 1), maxPageSize);
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다.
+		PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+		List<VoucherSummaryResponseDto> vouchers;
+		if (cursor == null || cursor.isBlank()) {
+			vouchers = voucherRepository.findSummariesByMemberId(memberId, limit);
+		} else {
+			String[] decodedCursor = decodeCursor(cursor);
+			vouchers = voucherRepository.findSummariesByMemberIdAfter(memberId,
+					parseCursorValue(decodedCursor[0], LocalDate::parse), Long.parseLong(decodedCursor[1]), limit);
+		}
+
+		boolean hasNext = vouchers.size() > pageSize;
+		if (hasNext) {
+			vouchers = vouchers.subList(0, pageSize);
+		}
+		VoucherSummaryResponseDto last = vouchers.isEmpty() ? null : vouchers.get(vouchers.size() - 1);
+
+		return VoucherPageResponseDto.builder()
+				.vouchers(vouchers)
+				.nextCursor(hasNext ? encodeCursor(last.getExpiresAt(), last.getId()) : null)
+				.hasNext(hasNext)
+				.build();
+	}
+
+	/*
+	만료 임박 기프티콘 조회 메서드
+	오늘부터 days일 이내에 만료되는 미사용 기프티콘을 만료일 순으로 최대 size개 조회한다.
+	 */
+	public List<VoucherSummaryResponseDto> listExpiring(Long memberId, Integer days, Integer size) {
+		int expiringDays = days == null ? defaultExpiringDays : Math.min(Math.max(days, 0), maxExpiringDays);
+		int limit = size == null ? defaultPageSize : Math.min(Math.max(size, 1), maxPageSize);
+		LocalDate today = LocalDate.now();
+
+		return voucherRepository.findExpiringSummariesByMemberId(memberId, today, today.plusDays(expiringDays),
+				PageRequest.of(0, limit));
+	}
+
+	/*
+	기프티콘 변경분 동기화 메서드
+	동기화 토큰((updatedAt, id) keyset) 이후 생성/수정/사용/삭제된 기프티콘만 반환한다.
+	토큰이 없으면 처음부터 조회하며, hasMore가 false가 될 때까지 반환된 토큰으로 이어서 요청한다.
+	 */
+	public VoucherChangesResponseDto listChanges(Long memberId, String since) {
+		LocalDateTime updatedAt = SYNC_EPOCH;
+		Long id = 0L;
+		if (since != null && !since.isBlank()) {
+			String[] decodedToken = decodeCursor(since);
+			updatedAt = parseCursorValue(decodedToken[0], LocalDateTime::parse);
+			id = Long.parseLong(decodedToken[1]);
+		}
+		// 커밋이 늦어진 트랜잭션의 변경을 건너뛰지 않도록 최근 변경은 다음 동기화로 미룬다.
+		LocalDateTime until = LocalDateTime.now().minus(syncSafetyLagMillis, ChronoUnit.MILLIS);
+
+		List<VoucherChangeResponseDto> changes = voucherRepository.findChangesByMemberIdAfter(memberId, updatedAt, id,
+				until, PageRequest.of(0, syncPageSize + 1));
+
+		boolean hasMore = changes.size() > syncPageSize;
+		if (hasMore) {
+			changes = changes.subList(0, syncPageSize);
+		}
+		// 변경분이 없으면 기존 토큰을 그대로 돌려준다.
+		String syncToken = since;
+		if (!changes.isEmpty()) {
+			VoucherChangeResponseDto last = changes.get(changes.size() - 1);
+			syncToken = encodeCursor(last.getUpdatedAt().toString(), last.getId());
+		}
+
+		return VoucherChangesResponseDto.builder()
+				.changes(changes)
+				.syncToken(syncToken)
+				.hasMore(hasMore)
+				.build();
+	}
+
 	/*
 	기프티콘 정보 수정 메서드
+	낙관적 락 충돌 시 새로운 트랜잭션으로 재시도한다.
 	 */
+	@Retryable(label = "voucher.update", retryFor = OptimisticLockingFailureException.class,
+			maxAttemptsExpression = "${voucher.retry.max-attempts:3}",
+			backoff = @Backoff(delayExpression = "${voucher.retry.delay-millis:50}",
+					maxDelayExpression = "${voucher.retry.max-delay-millis:500}",
+					multiplierExpression = "${voucher.retry.multiplier:2}", random = true),
+			listeners = "optimisticLockRetryListener")
+	@Transactional
 	public VoucherSaveResponseDto update(Long voucherId, VoucherUpdateRequestDto voucherUpdateRequestDto) {
-		Voucher voucher = voucherRepository.findById(voucherId)
+		Voucher voucher = voucherRepository.findByIdAndDeletedAtIsNull(voucherId)
 				.orElseThrow(() -> new BusinessException("존재하지 않는 상품권 입니다.", ErrorCode.NOT_FOUND_RESOURCE));
 
 		voucher.setBarcode(
@@ -114,43 +337,36 @@ public class VoucherService {
 
 	/*
 	기프티콘 사용 등록 메서드
+	잔액 차감은 조건부 UPDATE 한 번으로 처리하며, 사용 내역 저장과 같은 트랜잭션에서 수행된다.
+	동시에 사용하면 조건부 UPDATE가 행 잠금으로 순서대로 처리되므로 재시도 없이 잔액 부족으로 거절된다.
 	 */
-	public VoucherUseResponseDto use(String username, Long voucherId, VoucherUseRequestDto voucherUseRequestDto) {
-		Optional<Voucher> voucher = voucherRepository.findById(voucherId);
-		List<Voucher> vouchers = voucherRepository.findAllByMemberUsername(username);
-		List<VoucherUsageHistory> voucherUsageHistories = voucherUsageHistoryRepository.findAllByVoucherId(voucherId);
+	@Transactional
+	public VoucherUseResponseDto use(Long memberId, Long voucherId, VoucherUseRequestDto voucherUseRequestDto) {
+		Voucher voucher = readOwnedVoucher(voucherId, memberId, "상품권을 사용할 권한이 없습니다.");
+		int requestedAmount = voucherUseRequestDto.getAmount();
 
-		if (voucher.isEmpty()) {
-			throw new BusinessException("존재하지 않는 상품권 입니다.", ErrorCode.NOT_FOUND_RESOURCE);
+		if (requestedAmount <= 0) {
+			throw new BusinessException("사용 금액은 0보다 커야 합니다.", ErrorCode.INVALID_INPUT_VALUE);
 		}
-		if (!vouchers.contains(voucher.get())) {
-			throw new BusinessException("상품권을 사용할 권한이 없습니다.", ErrorCode.ACCESS_DENIED);
-		}
-		int totalUsageAmount = voucherUsageHistories.stream()
-				.mapToInt(VoucherUsageHistory::getAmount)
-				.sum();
 
-		totalUsageAmount = Math.max(totalUsageAmount, 0);
+		if (voucher.getExpiresAt().isBefore(LocalDate.now())) {
+			throw new BusinessException("유효기간이 만료된 상품권 입니다.", ErrorCode.EXIST_RESOURCE);
+		}
 
-		if (totalUsageAmount == voucher.get().getBalance()) {
+		if (voucher.getBalance() == 0) {
 			throw new BusinessException("이미 사용된 상품권 입니다.", ErrorCode.NOT_FOUND_RESOURCE);
 		}
 
-		int remainingBalance = voucher.get().getBalance() - totalUsageAmount;
-		int requestedAmount = voucherUseRequestDto.getAmount();
-
-		if (requestedAmount > remainingBalance) {
+		// 동시에 사용 요청이 들어온 경우 조건부 UPDATE가 초과 사용을 막는다.
+		if (voucherRepository.debitBalance(voucherId, requestedAmount, LocalDate.now(),
+				LocalDateTime.now()) == 0) {
 			throw new BusinessException("잔액이 부족합니다.", ErrorCode.EXIST_RESOURCE);
 		}
 
-		if (voucher.get().getExpiresAt().isBefore(LocalDate.now())) {
-			throw new BusinessException("유효기간이 만료된 상품권 입니다.", ErrorCode.EXIST_RESOURCE);
-		}
-
 		VoucherUsageHistory voucherUsageHistory = VoucherUsageHistory.builder()
-				.member(memberService.read(username))
-				.voucher(voucher.get())
-				.amount(voucherUseRequestDto.getAmount())
+				.member(memberService.getReference(memberId))
+				.voucher(voucher)
+				.amount(requestedAmount)
 				.place(voucherUseRequestDto.getPlace())
 				.createdAt(LocalDateTime.now())
 				.build();
@@ -160,10 +376,69 @@ public class VoucherService {
 		return VoucherUseResponseDto.builder()
 				.usageId(voucherUsageHistory.getId())
 				.voucherId(voucherId)
-				.balance(remainingBalance - requestedAmount)
+				.balance(voucherRepository.findBalanceById(voucherId))
+				.build();
+	}
+
+	/*
+	기프티콘 삭제(Soft-Delete) 메서드
+	삭제 시각을 기록하여 동기화 API에서 tombstone으로 전달한다.
+	 */
+	@Transactional
+	public VoucherDeleteResponseDto delete(Long memberId, Long voucherId) {
+		Voucher voucher = readOwnedVoucher(voucherId, memberId, "상품권을 삭제할 권한이 없습니다.");
+		voucher.setDeletedAt(LocalDateTime.now());
+
+		return VoucherDeleteResponseDto.builder()
+				.id(voucherId)
 				.build();
 	}
 
+	/*
+	사용자가 소유한 기프티콘을 단일 쿼리로 조회하는 메서드
+	 */
+	private Voucher readOwnedVoucher(Long voucherId, Long memberId, String accessDeniedMessage) {
+		Optional<Voucher> voucher = voucherRepository.findByIdAndMemberIdAndDeletedAtIsNull(voucherId, memberId);
+		if (voucher.isPresent()) {
+			return voucher.get();
+		}
+		throw accessError(voucherId, accessDeniedMessage);
+	}
+
+	/*
+	소유한 기프티콘 조회에 실패한 경우에만 존재 여부를 확인하여 에러를 구분한다.
+	 */
+	private BusinessException accessError(Long voucherId, String accessDeniedMessage) {
+		if (!voucherRepository.existsByIdAndDeletedAtIsNull(voucherId)) {
+			return new BusinessException("존재하지 않는 상품권 입니다.", ErrorCode.NOT_FOUND_RESOURCE);
+		}
+		return new BusinessException(accessDeniedMessage, ErrorCode.ACCESS_DENIED);
+	}
+
+	private String encodeCursor(String expiresAt, Long id) {
+		String cursor = expiresAt + "_" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String[] decodeCursor(String cursor) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] values = decoded.split("_");
+			Long.parseLong(values[1]);
+			return values;
+		} catch (RuntimeException e) {
+			throw new BusinessException("유효하지 않은 커서 입니다.", ErrorCode.INVALID_INPUT_VALUE);
+		}
+	}
+
+	private <T> T parseCursorValue(String value, Function<String, T> parser) {
+		try {
+			return parser.apply(value);
+		} catch (RuntimeException e) {
+			throw new BusinessException("유효하지 않은 커서 입니다.", ErrorCode.INVALID_INPUT_VALUE);
+		}
+	}
+
 	/*
 	Entity를 Dto로 변환하는 메서드
 	 */
@@ -173,6 +448,7 @@ public class VoucherService {
 				.productId(voucher.getProduct().getId())
 				.barcode(voucher.getBarcode())
 				.expiresAt(voucher.getExpiresAt().toString())
+				.version(voucher.getVersion())
 				.build();
 		return voucherReadResponseDto;
 	}
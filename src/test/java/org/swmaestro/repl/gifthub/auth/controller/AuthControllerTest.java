@@ -237,12 +237,8 @@ public class AuthControllerTest {
 	@Test
 	@WithMockUser(username = "이진우", roles = "USER")
 	public void signOutTest() throws Exception {
-		String username = "jinlee1703";
 		String accessToken = "my_awesome_access_token";
 
-		when(jwtProvider.getUsername(accessToken)).thenReturn(username);
-		when(jwtProvider.resolveToken(any())).thenReturn(accessToken);
-
 		mockMvc.perform(post("/auth/sign-out")
 						.header("Authorization", "Bearer " + accessToken))
 				.andExpect(status().isOk());
@@ -1,6 +1,7 @@
 package org.swmaestro.repl.gifthub.auth.controller;
 
 import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -12,10 +13,14 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.swmaestro.repl.gifthub.auth.dto.DeviceTokenRequestDto;
+import org.swmaestro.repl.gifthub.auth.dto.DeviceTokenResponseDto;
 import org.swmaestro.repl.gifthub.auth.dto.MemberDeleteResponseDto;
 import org.swmaestro.repl.gifthub.auth.dto.MemberUpdateRequestDto;
 import org.swmaestro.repl.gifthub.auth.dto.MemberUpdateResponseDto;
+import org.swmaestro.repl.gifthub.auth.service.DeviceTokenService;
 import org.swmaestro.repl.gifthub.auth.service.MemberService;
+import org.swmaestro.repl.gifthub.security.CustomUserDetails;
 import org.swmaestro.repl.gifthub.util.JwtProvider;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,6 +34,9 @@ class UserControllerTest {
 	@MockBean
 	private MemberService memberService;
 
+	@MockBean
+	private DeviceTokenService deviceTokenService;
+
 	@MockBean
 	private JwtProvider jwtProvider;
 
@@ -44,8 +52,6 @@ class UserControllerTest {
 				.build();
 
 		// when
-		when(jwtProvider.resolveToken(any())).thenReturn("my_awesome_access_token");
-		when(jwtProvider.getUsername(anyString())).thenReturn("이진우");
 		when(memberService.delete(1L)).thenReturn(userDeleteResponseDto);
 
 		// then
@@ -70,8 +76,6 @@ class UserControllerTest {
 				.nickname("이진우11")
 				.build();
 		//when
-		when(jwtProvider.resolveToken(any())).thenReturn("my_awesome_access_token");
-		when(jwtProvider.getUsername(anyString())).thenReturn("이진우");
 		when(memberService.update(anyString(), anyLong(), any(MemberUpdateRequestDto.class))).thenReturn(memberUpdateResponseDto);
 
 		//then
@@ -81,4 +85,51 @@ class UserControllerTest {
 						.content(objectMapper.writeValueAsString(memberUpdateResponseDto)))
 				.andExpect(status().isOk());
 	}
-}
\ No newline at end of file
+
+	/*
+	기기 토큰 등록 테스트
+	 */
+	@Test
+	void registerDeviceTokenTest() throws Exception {
+		// given
+		CustomUserDetails userDetails = CustomUserDetails.of(1L, "이진우");
+		DeviceTokenRequestDto deviceTokenRequestDto = DeviceTokenRequestDto.builder()
+				.token("device_token")
+				.build();
+		DeviceTokenResponseDto deviceTokenResponseDto = DeviceTokenResponseDto.builder()
+				.token("device_token")
+				.build();
+
+		// when
+		when(deviceTokenService.register(eq(1L), any(DeviceTokenRequestDto.class))).thenReturn(deviceTokenResponseDto);
+
+		// then
+		mockMvc.perform(post("/users/device-tokens")
+						.with(user(userDetails))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(deviceTokenRequestDto)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.token").value("device_token"));
+	}
+
+	/*
+	기기 토큰 해제 테스트
+	 */
+	@Test
+	void unregisterDeviceTokenTest() throws Exception {
+		// given
+		CustomUserDetails userDetails = CustomUserDetails.of(1L, "이진우");
+		DeviceTokenResponseDto deviceTokenResponseDto = DeviceTokenResponseDto.builder()
+				.token("device_token")
+				.build();
+
+		// when
+		when(deviceTokenService.unregister(1L, "device_token")).thenReturn(deviceTokenResponseDto);
+
+		// then
+		mockMvc.perform(delete("/users/device-tokens/device_token")
+						.with(user(userDetails)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.token").value("device_token"));
+	}
+}
@@ -63,7 +63,7 @@ class AuthServiceTest {
 
         when(memberRepository.findByUsername(loginDto.getUsername())).thenReturn(member);
         when(passwordEncoder.matches(loginDto.getPassword(), member.getPassword())).thenReturn(true);
-        when(jwtProvider.generateToken(member.getUsername())).thenReturn("accessToken");
+        when(jwtProvider.generateToken(member.getUsername(), member.getId())).thenReturn("accessToken");
         when(jwtProvider.generateRefreshToken(member.getUsername())).thenReturn("refreshToken");
 
         // When
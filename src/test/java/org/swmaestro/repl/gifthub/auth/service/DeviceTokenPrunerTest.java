@@ -0,0 +1,104 @@
+package org.swmaestro.repl.gifthub.auth.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.swmaestro.repl.gifthub.auth.repository.DeviceTokenRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceTokenPrunerTest {
+	private static final LocalDateTime FIRST_REPORTED_AT = LocalDateTime.of(2023, 6, 15, 10, 0);
+	private static final LocalDateTime SECOND_REPORTED_AT = LocalDateTime.of(2023, 6, 15, 10, 5);
+
+	@Mock
+	private DeviceTokenRepository deviceTokenRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private DeviceTokenPruner deviceTokenPruner;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		deviceTokenPruner = new DeviceTokenPruner(deviceTokenRepository, meterRegistry, 2);
+	}
+
+	/*
+	 * 먼저 알린 토큰 A와, A를 알린 뒤 다시 등록되었다가 나중에 알린 토큰 B는 각자 알린 시각을 기준으로 삭제된다.
+	 */
+	@Test
+	@DisplayName("prune with per-report cutoff test")
+	void pruneWithPerReportCutoff() {
+		// given
+		deviceTokenPruner.report(List.of("A"), FIRST_REPORTED_AT);
+		deviceTokenPruner.report(List.of("B"), SECOND_REPORTED_AT);
+		when(deviceTokenRepository.deleteInvalid(anyList(), any(LocalDateTime.class))).thenReturn(1);
+
+		// when
+		deviceTokenPruner.prune();
+
+		// then
+		verify(deviceTokenRepository).deleteInvalid(List.of("A"), FIRST_REPORTED_AT);
+		verify(deviceTokenRepository).deleteInvalid(List.of("B"), SECOND_REPORTED_AT);
+		assertThat(pending()).isZero();
+	}
+
+	/*
+	 * 같은 시각에 알린 토큰은 batch-size개씩 나누어 삭제한다.
+	 */
+	@Test
+	@DisplayName("prune in batches test")
+	void pruneInBatches() {
+		// given
+		deviceTokenPruner.report(List.of("A", "B", "C"));
+		when(deviceTokenRepository.deleteInvalid(anyList(), any(LocalDateTime.class))).thenReturn(1);
+
+		// when
+		deviceTokenPruner.prune();
+
+		// then
+		verify(deviceTokenRepository, times(2)).deleteInvalid(anyList(), any(LocalDateTime.class));
+		assertThat(pending()).isZero();
+	}
+
+	/*
+	 * 삭제에 실패한 토큰은 다음 실행에서 다시 삭제하도록 남긴다.
+	 */
+	@Test
+	@DisplayName("prune failure keeps tokens test")
+	void pruneFailureKeepsTokens() {
+		// given
+		deviceTokenPruner.report(List.of("A"), FIRST_REPORTED_AT);
+		deviceTokenPruner.report(List.of("B"), SECOND_REPORTED_AT);
+		when(deviceTokenRepository.deleteInvalid(List.of("A"), FIRST_REPORTED_AT))
+				.thenThrow(new IllegalStateException("DB 오류"))
+				.thenReturn(1);
+		when(deviceTokenRepository.deleteInvalid(List.of("B"), SECOND_REPORTED_AT)).thenReturn(1);
+
+		// when
+		deviceTokenPruner.prune();
+
+		// then
+		assertThat(pending()).isEqualTo(1);
+		deviceTokenPruner.prune();
+		verify(deviceTokenRepository, times(2)).deleteInvalid(List.of("A"), FIRST_REPORTED_AT);
+		verify(deviceTokenRepository).deleteInvalid(List.of("B"), SECOND_REPORTED_AT);
+		assertThat(pending()).isZero();
+	}
+
+	private double pending() {
+		return meterRegistry.get("push.token_prune.pending").gauge().value();
+	}
+}
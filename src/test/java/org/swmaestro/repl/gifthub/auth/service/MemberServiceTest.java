@@ -13,6 +13,7 @@ import org.swmaestro.repl.gifthub.auth.dto.SignUpDto;
 import org.swmaestro.repl.gifthub.auth.entity.Member;
 import org.swmaestro.repl.gifthub.auth.repository.MemberRepository;
 import org.swmaestro.repl.gifthub.exception.BusinessException;
+import org.swmaestro.repl.gifthub.security.UserDetailsCache;
 import org.swmaestro.repl.gifthub.util.JwtProvider;
 
 import java.util.ArrayList;
@@ -40,10 +41,14 @@ class MemberServiceTest {
 	@Mock
 	private RefreshTokenService refreshTokenService;
 
+	@Mock
+	private UserDetailsCache userDetailsCache;
+
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
-		memberService = new MemberServiceImpl(memberRepository, passwordEncoder, jwtProvider, refreshTokenService);
+		memberService = new MemberServiceImpl(memberRepository, passwordEncoder, jwtProvider, refreshTokenService,
+				userDetailsCache);
 	}
 
 	/*
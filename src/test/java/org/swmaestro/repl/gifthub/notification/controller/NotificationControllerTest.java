@@ -0,0 +1,151 @@
+package org.swmaestro.repl.gifthub.notification.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.swmaestro.repl.gifthub.notification.NotificationType;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationCountResponseDto;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationIdsRequestDto;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationPageResponseDto;
+import org.swmaestro.repl.gifthub.notification.dto.NotificationReadResponseDto;
+import org.swmaestro.repl.gifthub.notification.service.NotificationService;
+import org.swmaestro.repl.gifthub.security.CustomUserDetails;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class NotificationControllerTest {
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockBean
+	private NotificationService notificationService;
+
+	private final CustomUserDetails userDetails = CustomUserDetails.of(1L, "이진우");
+
+	/*
+	알림 목록 조회 테스트
+	 */
+	@Test
+	void listNotificationTest() throws Exception {
+		// given
+		NotificationPageResponseDto notificationPageResponseDto = NotificationPageResponseDto.builder()
+				.notifications(List.of(NotificationReadResponseDto.builder()
+						.id(1L)
+						.voucherId(1L)
+						.type(NotificationType.EXPIRATION)
+						.message("스타벅스 아이스 아메리카노 T 기프티콘의 유효기간이 7일 남았습니다.")
+						.createdAt(LocalDateTime.of(2023, 6, 8, 3, 0))
+						.build()))
+				.nextCursor(null)
+				.hasNext(false)
+				.build();
+
+		// when
+		when(notificationService.list(1L, null, 20)).thenReturn(notificationPageResponseDto);
+
+		// then
+		mockMvc.perform(get("/notifications")
+						.with(user(userDetails))
+						.param("size", "20"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.notifications[0].read").value(false))
+				.andExpect(jsonPath("$.has_next").value(false));
+	}
+
+	/*
+	실시간 알림 구독 테스트
+	 */
+	@Test
+	void streamNotificationTest() throws Exception {
+		mockMvc.perform(get("/notifications/stream")
+						.with(user(userDetails))
+						.accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(status().isOk())
+				.andExpect(request().asyncStarted());
+	}
+
+	/*
+	읽지 않은 알림 수 조회 테스트
+	 */
+	@Test
+	void countUnreadNotificationTest() throws Exception {
+		// when
+		when(notificationService.countUnread(1L)).thenReturn(NotificationCountResponseDto.builder()
+				.count(3)
+				.build());
+
+		// then
+		mockMvc.perform(get("/notifications/unread-count")
+						.with(user(userDetails)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.count").value(3));
+	}
+
+	/*
+	알림 일괄 읽음 처리 테스트
+	 */
+	@Test
+	void readNotificationsTest() throws Exception {
+		// given
+		NotificationIdsRequestDto notificationIdsRequestDto = NotificationIdsRequestDto.builder()
+				.ids(List.of(1L, 2L))
+				.build();
+
+		// when
+		when(notificationService.read(anyLong(), any(NotificationIdsRequestDto.class))).thenReturn(
+				NotificationCountResponseDto.builder()
+						.count(2)
+						.build());
+
+		// then
+		mockMvc.perform(post("/notifications/read")
+						.with(user(userDetails))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(notificationIdsRequestDto)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.count").value(2));
+	}
+
+	/*
+	알림 일괄 삭제 테스트
+	 */
+	@Test
+	void deleteNotificationsTest() throws Exception {
+		// given
+		NotificationIdsRequestDto notificationIdsRequestDto = NotificationIdsRequestDto.builder()
+				.ids(List.of(1L, 2L))
+				.build();
+
+		// when
+		when(notificationService.delete(anyLong(), any(NotificationIdsRequestDto.class))).thenReturn(
+				NotificationCountResponseDto.builder()
+						.count(2)
+						.build());
+
+		// then
+		mockMvc.perform(post("/notifications/delete")
+						.with(user(userDetails))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(notificationIdsRequestDto)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.count").value(2));
+	}
+}
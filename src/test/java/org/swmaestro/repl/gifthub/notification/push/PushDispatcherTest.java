@@ -0,0 +1,111 @@
+package org.swmaestro.repl.gifthub.notification.push;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.swmaestro.repl.gifthub.notification.service.NotificationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class PushDispatcherTest {
+	@Mock
+	private PushSender pushSender;
+
+	@Mock
+	private NotificationService notificationService;
+
+	private PushDispatcher pushDispatcher;
+
+	private final List<String> reportedInvalidTokens = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		pushDispatcher = new PushDispatcher(pushSender, notificationService, new SimpleMeterRegistry(), 1, 10, 2, 1,
+				2);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		pushDispatcher.shutdown();
+	}
+
+	/*
+	 * 재시도 후에도 어느 기기로도 보내지 못한 알림만 선점을 해제하고, 유효하지 않은 토큰만 가진 알림은 해제하지 않는다.
+	 */
+	@Test
+	@DisplayName("dispatch releases undelivered notifications test")
+	void dispatchReleasesUndelivered() {
+		// given
+		Map<Long, List<String>> notificationTokens = new LinkedHashMap<>();
+		notificationTokens.put(1L, List.of("t1"));
+		notificationTokens.put(2L, List.of("t2"));
+		notificationTokens.put(3L, List.of("t3"));
+		notificationTokens.put(4L, List.of("t2", "t3"));
+		notificationTokens.put(5L, List.of("t1", "t3"));
+		PushMessage message = new PushMessage("알림", List.of("t1", "t2", "t3"), notificationTokens);
+		when(pushSender.send(any(PushMessage.class)))
+				.thenReturn(new PushSendResult(List.of("t2"), List.of("t3")))
+				.thenReturn(new PushSendResult(List.of(), List.of("t3")));
+
+		// when
+		pushDispatcher.dispatch(message, reportedInvalidTokens::addAll);
+
+		// then
+		verify(pushSender, times(2)).send(any(PushMessage.class));
+		verify(notificationService).releaseUnsent(List.of(3L, 4L));
+		assertThat(reportedInvalidTokens).containsExactly("t2");
+	}
+
+	/*
+	 * 모두 발송되면 선점을 해제하지 않는다.
+	 */
+	@Test
+	@DisplayName("dispatch success keeps claims test")
+	void dispatchSuccessKeepsClaims() {
+		// given
+		PushMessage message = new PushMessage("알림", List.of("t1", "t2"), Map.of(1L, List.of("t1", "t2")));
+		when(pushSender.send(any(PushMessage.class))).thenReturn(PushSendResult.success());
+
+		// when
+		pushDispatcher.dispatch(message, reportedInvalidTokens::addAll);
+
+		// then
+		verify(notificationService, never()).releaseUnsent(anyCollection());
+		assertThat(reportedInvalidTokens).isEmpty();
+	}
+
+	/*
+	 * 발송 요청 자체가 계속 실패하면 메시지의 모든 알림 선점을 해제한다.
+	 */
+	@Test
+	@DisplayName("dispatch request failure releases all test")
+	void dispatchRequestFailureReleasesAll() {
+		// given
+		Map<Long, List<String>> notificationTokens = new LinkedHashMap<>();
+		notificationTokens.put(1L, List.of("t1"));
+		notificationTokens.put(2L, List.of("t2"));
+		PushMessage message = new PushMessage("알림", List.of("t1", "t2"), notificationTokens);
+		when(pushSender.send(any(PushMessage.class))).thenThrow(new IllegalStateException("발송 제공자 오류"));
+
+		// when
+		pushDispatcher.dispatch(message, reportedInvalidTokens::addAll);
+
+		// then
+		verify(pushSender, times(2)).send(any(PushMessage.class));
+		verify(notificationService).releaseUnsent(List.of(1L, 2L));
+	}
+}
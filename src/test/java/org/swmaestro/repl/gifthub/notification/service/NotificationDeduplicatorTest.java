@@ -0,0 +1,189 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.swmaestro.repl.gifthub.notification.NotificationType;
+import org.swmaestro.repl.gifthub.notification.entity.NotificationSentBitmap;
+import org.swmaestro.repl.gifthub.notification.repository.NotificationSentBitmapRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDeduplicatorTest {
+	private static final LocalDate TARGET_DATE = LocalDate.of(2023, 6, 15);
+	private static final String KEY = NotificationDeduplicator.key(NotificationType.EXPIRATION, "D-7", TARGET_DATE);
+
+	@Mock
+	private NotificationSentBitmapRepository notificationSentBitmapRepository;
+
+	private NotificationDeduplicator notificationDeduplicator;
+
+	@BeforeEach
+	void setUp() {
+		notificationDeduplicator = new NotificationDeduplicator(notificationSentBitmapRepository, 1 << 20, 48);
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	/*
+	 * 기록된 bitmap이 없으면 모든 대상이 그대로 반환된다.
+	 */
+	@Test
+	@DisplayName("filterUnsent without bitmap test")
+	void filterUnsentWithoutBitmap() {
+		// given
+		when(notificationSentBitmapRepository.findVersionByBitmapKey(KEY + ":0")).thenReturn(Optional.empty());
+		when(notificationSentBitmapRepository.findByBitmapKey(KEY + ":0")).thenReturn(Optional.empty());
+
+		// when
+		List<Long> unsent = notificationDeduplicator.filterUnsent(KEY, List.of(1L, 2L, 3L), Long::longValue);
+
+		// then
+		assertThat(unsent).containsExactly(1L, 2L, 3L);
+	}
+
+	/*
+	 * 커밋 후에는 기록한 id가 걸러지고, 버전이 같으면 bitmap을 다시 읽지 않는다.
+	 */
+	@Test
+	@DisplayName("markSent then filterUnsent test")
+	void markSentThenFilterUnsent() {
+		// given
+		when(notificationSentBitmapRepository.findVersionByBitmapKey(KEY + ":0"))
+				.thenReturn(Optional.empty(), Optional.of(0L));
+		when(notificationSentBitmapRepository.findVersionByBitmapKey(KEY + ":1"))
+				.thenReturn(Optional.empty(), Optional.of(0L));
+		when(notificationSentBitmapRepository.findByBitmapKey(anyString())).thenReturn(Optional.empty());
+		when(notificationSentBitmapRepository.saveAndFlush(any(NotificationSentBitmap.class)))
+				.thenAnswer(invocation -> withVersion(invocation.getArgument(0), 0L));
+
+		// when
+		notificationDeduplicator.markSent(KEY, TARGET_DATE, List.of(1L, 70_000L));
+		commit();
+		List<Long> unsent = notificationDeduplicator.filterUnsent(KEY, List.of(1L, 2L, 70_000L, 70_001L),
+				Long::longValue);
+
+		// then
+		assertThat(unsent).containsExactly(2L, 70_001L);
+		verify(notificationSentBitmapRepository, times(1)).findByBitmapKey(KEY + ":0");
+		verify(notificationSentBitmapRepository, times(1)).findByBitmapKey(KEY + ":1");
+		verify(notificationSentBitmapRepository, times(2)).saveAndFlush(any(NotificationSentBitmap.class));
+	}
+
+	/*
+	 * int 범위를 넘는 id도 예외 없이 상위 비트 샤드에 기록된다.
+	 */
+	@Test
+	@DisplayName("markSent with id above int range test")
+	void markSentWithLargeId() {
+		// given
+		long id = (1L << 32) + 5;
+		String shardKey = KEY + ":" + NotificationDeduplicator.shardOf(id);
+		when(notificationSentBitmapRepository.findVersionByBitmapKey(shardKey))
+				.thenReturn(Optional.empty(), Optional.of(0L));
+		when(notificationSentBitmapRepository.findByBitmapKey(shardKey)).thenReturn(Optional.empty());
+		when(notificationSentBitmapRepository.saveAndFlush(any(NotificationSentBitmap.class)))
+				.thenAnswer(invocation -> withVersion(invocation.getArgument(0), 0L));
+
+		// when
+		notificationDeduplicator.markSent(KEY, TARGET_DATE, List.of(id));
+		commit();
+
+		// then
+		assertThat(notificationDeduplicator.filterUnsent(KEY, List.of(id), Long::longValue)).isEmpty();
+	}
+
+	/*
+	 * 다른 트랜잭션이 먼저 갱신하여 조건부 UPDATE가 0건이면 예외가 발생하고 메모리에 반영되지 않는다.
+	 */
+	@Test
+	@DisplayName("markSent version conflict test")
+	void markSentVersionConflict() {
+		// given
+		when(notificationSentBitmapRepository.findVersionByBitmapKey(KEY + ":0")).thenReturn(Optional.of(3L));
+		when(notificationSentBitmapRepository.findByBitmapKey(KEY + ":0"))
+				.thenReturn(Optional.of(bitmap(KEY + ":0", 3L, 1)));
+		when(notificationSentBitmapRepository.updateBitmap(eq(KEY + ":0"), any(byte[].class), eq(3L))).thenReturn(0);
+
+		// when
+		assertThrows(OptimisticLockingFailureException.class,
+				() -> notificationDeduplicator.markSent(KEY, TARGET_DATE, List.of(2L)));
+
+		// then
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+		assertThat(notificationDeduplicator.filterUnsent(KEY, List.of(1L, 2L), Long::longValue)).containsExactly(2L);
+	}
+
+	/*
+	 * 다른 인스턴스가 갱신하여 버전이 달라지면 bitmap을 다시 읽는다.
+	 */
+	@Test
+	@DisplayName("filterUnsent reloads stale bitmap test")
+	void filterUnsentReloadsStaleBitmap() {
+		// given
+		when(notificationSentBitmapRepository.findVersionByBitmapKey(KEY + ":0"))
+				.thenReturn(Optional.of(0L), Optional.of(1L));
+		when(notificationSentBitmapRepository.findByBitmapKey(KEY + ":0"))
+				.thenReturn(Optional.of(bitmap(KEY + ":0", 0L, 1)), Optional.of(bitmap(KEY + ":0", 1L, 1, 2)));
+
+		// when
+		List<Long> first = notificationDeduplicator.filterUnsent(KEY, List.of(1L, 2L), Long::longValue);
+		List<Long> second = notificationDeduplicator.filterUnsent(KEY, List.of(1L, 2L), Long::longValue);
+
+		// then
+		assertThat(first).containsExactly(2L);
+		assertThat(second).isEmpty();
+		verify(notificationSentBitmapRepository, times(2)).findByBitmapKey(KEY + ":0");
+	}
+
+	private void commit() {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(TransactionSynchronization::afterCommit);
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	private NotificationSentBitmap withVersion(NotificationSentBitmap entity, Long version) {
+		ReflectionTestUtils.setField(entity, "version", version);
+		return entity;
+	}
+
+	private NotificationSentBitmap bitmap(String bitmapKey, Long version, int... lowBits) {
+		try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			 DataOutputStream out = new DataOutputStream(bytes)) {
+			RoaringBitmap.bitmapOf(lowBits).serialize(out);
+			out.flush();
+			return withVersion(NotificationSentBitmap.builder()
+					.bitmapKey(bitmapKey)
+					.targetDate(TARGET_DATE)
+					.bitmap(bytes.toByteArray())
+					.build(), version);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PushSendWindowTest {
+	private final PushSendWindow pushSendWindow = new PushSendWindow("09:00", "21:00");
+
+	/*
+	 * 시작 시각 전에 생성된 알림은 같은 날 시작 시각부터 발송한다.
+	 */
+	@Test
+	@DisplayName("sendAfter before window test")
+	void sendAfterBeforeWindow() {
+		assertThat(pushSendWindow.sendAfter(LocalDateTime.of(2023, 6, 15, 3, 0)))
+				.isEqualTo(LocalDateTime.of(2023, 6, 15, 9, 0));
+	}
+
+	/*
+	 * 시간대 안에서 생성된 알림은 바로 발송한다.
+	 */
+	@Test
+	@DisplayName("sendAfter within window test")
+	void sendAfterWithinWindow() {
+		LocalDateTime now = LocalDateTime.of(2023, 6, 15, 10, 30);
+		assertThat(pushSendWindow.sendAfter(now)).isEqualTo(now);
+	}
+
+	/*
+	 * 종료 시각 이후에 생성된 알림은 다음 날 시작 시각부터 발송한다.
+	 */
+	@Test
+	@DisplayName("sendAfter after window test")
+	void sendAfterAfterWindow() {
+		assertThat(pushSendWindow.sendAfter(LocalDateTime.of(2023, 6, 15, 21, 0)))
+				.isEqualTo(LocalDateTime.of(2023, 6, 16, 9, 0));
+	}
+}
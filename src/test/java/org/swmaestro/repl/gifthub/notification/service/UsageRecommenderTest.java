@@ -0,0 +1,117 @@
+package org.swmaestro.repl.gifthub.notification.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherRecommendationCandidateDto;
+import org.swmaestro.repl.gifthub.vouchers.dto.VoucherUsagePatternDto;
+
+class UsageRecommenderTest {
+	private static final LocalDateTime LUNCH = LocalDateTime.of(2023, 6, 1, 12, 30);
+	private static final LocalDateTime EVENING = LocalDateTime.of(2023, 6, 2, 19, 0);
+
+	private UsageRecommender usageRecommender;
+
+	@BeforeEach
+	void setUp() {
+		usageRecommender = new UsageRecommender();
+		ReflectionTestUtils.setField(usageRecommender, "perMember", 1);
+	}
+
+	/*
+	 * 사용 횟수가 많은 브랜드의 기프티콘이 만료일보다 우선한다.
+	 */
+	@Test
+	@DisplayName("recommend most used brand test")
+	void recommendMostUsedBrand() {
+		// given
+		List<VoucherUsagePatternDto> patterns = List.of(
+				new VoucherUsagePatternDto(1L, 10L, "스타벅스 강남점", LUNCH),
+				new VoucherUsagePatternDto(1L, 10L, "스타벅스 강남점", LUNCH),
+				new VoucherUsagePatternDto(1L, 20L, null, EVENING));
+		List<VoucherRecommendationCandidateDto> candidates = List.of(
+				candidate(100L, 1L, 20L, "맥도날드", "빅맥 세트", LocalDate.of(2023, 6, 10)),
+				candidate(101L, 1L, 10L, "스타벅스", "아메리카노", LocalDate.of(2023, 7, 1)));
+
+		// when
+		List<VoucherRecommendation> recommendations = usageRecommender.recommend(patterns, candidates);
+
+		// then
+		assertThat(recommendations).extracting(VoucherRecommendation::voucherId).containsExactly(101L);
+	}
+
+	/*
+	 * 사용 횟수가 같으면 만료일이 빠른 기프티콘부터 추천하고, 회원당 per-member개까지만 추천한다.
+	 */
+	@Test
+	@DisplayName("recommend earliest expiry within limit test")
+	void recommendEarliestExpiryWithinLimit() {
+		// given
+		ReflectionTestUtils.setField(usageRecommender, "perMember", 2);
+		List<VoucherUsagePatternDto> patterns = List.of(new VoucherUsagePatternDto(1L, 10L, null, LUNCH));
+		List<VoucherRecommendationCandidateDto> candidates = List.of(
+				candidate(100L, 1L, 10L, "스타벅스", "아메리카노", LocalDate.of(2023, 7, 1)),
+				candidate(101L, 1L, 10L, "스타벅스", "카페라떼", LocalDate.of(2023, 6, 10)),
+				candidate(102L, 1L, 10L, "스타벅스", "케이크", LocalDate.of(2023, 6, 20)));
+
+		// when
+		List<VoucherRecommendation> recommendations = usageRecommender.recommend(patterns, candidates);
+
+		// then
+		assertThat(recommendations).extracting(VoucherRecommendation::voucherId).containsExactly(101L, 102L);
+	}
+
+	/*
+	 * 알림 내용에는 가장 많이 사용한 장소와 시간대가 들어간다.
+	 */
+	@Test
+	@DisplayName("recommendation message test")
+	void recommendationMessage() {
+		// given
+		List<VoucherUsagePatternDto> patterns = List.of(
+				new VoucherUsagePatternDto(1L, 10L, " 스타벅스 강남점 ", LUNCH),
+				new VoucherUsagePatternDto(1L, 10L, "스타벅스 강남점", LUNCH),
+				new VoucherUsagePatternDto(1L, 10L, "스타벅스 역삼점", EVENING));
+		List<VoucherRecommendationCandidateDto> candidates = List.of(
+				candidate(100L, 1L, 10L, "스타벅스", "아메리카노", LocalDate.of(2023, 7, 1)));
+
+		// when
+		List<VoucherRecommendation> recommendations = usageRecommender.recommend(patterns, candidates);
+
+		// then
+		assertThat(recommendations).singleElement()
+				.extracting(VoucherRecommendation::message)
+				.isEqualTo("스타벅스 강남점에서 자주 사용하신 스타벅스 아메리카노 기프티콘이 있어요. 점심에 사용해보세요.");
+	}
+
+	/*
+	 * 사용한 적 없는 브랜드의 기프티콘과 사용 내역이 없는 회원은 추천하지 않는다.
+	 */
+	@Test
+	@DisplayName("skip unused brand test")
+	void skipUnusedBrand() {
+		// given
+		List<VoucherUsagePatternDto> patterns = List.of(new VoucherUsagePatternDto(1L, 10L, null, LUNCH));
+		List<VoucherRecommendationCandidateDto> candidates = List.of(
+				candidate(100L, 1L, 20L, "맥도날드", "빅맥 세트", LocalDate.of(2023, 6, 10)),
+				candidate(101L, 2L, 10L, "스타벅스", "아메리카노", LocalDate.of(2023, 6, 10)));
+
+		// when
+		List<VoucherRecommendation> recommendations = usageRecommender.recommend(patterns, candidates);
+
+		// then
+		assertThat(recommendations).isEmpty();
+	}
+
+	private VoucherRecommendationCandidateDto candidate(Long id, Long memberId, Long brandId, String brandName,
+			String productName, LocalDate expiresAt) {
+		return new VoucherRecommendationCandidateDto(id, memberId, brandId, brandName, productName, expiresAt);
+	}
+}
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -53,4 +54,33 @@ public class ProductControllerTest {
 				.andExpect(status().isOk());
 	}
 
+	/**
+	 * 상품 상세 조회 조건부 요청(If-None-Match) 테스트
+	 */
+	@Test
+	@WithMockUser(username = "이진우", roles = "USER")
+	void readProductNotModified() throws Exception {
+		// given
+		ProductReadResponseDto productReadResponseDto = ProductReadResponseDto.builder()
+				.id(1L)
+				.brandId(1L)
+				.name("아이스 아메리카노")
+				.price(4500)
+				.imageUrl("https://스타벅스_아이스아메리카노T.png")
+				.build();
+		// when
+		when(productService.readById(1L)).thenReturn(productReadResponseDto);
+		String etag = mockMvc.perform(get("/products/1"))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, public"))
+				.andReturn()
+				.getResponse()
+				.getHeader(HttpHeaders.ETAG);
+		// then
+		mockMvc.perform(get("/products/1")
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+	}
 }